@@ -7,7 +7,9 @@ plugins {
 	checkstyle
 	jacoco
 	id("org.springframework.boot") version "3.4.2"
+	id("org.springframework.boot.aot") version "3.4.2"
 	id("io.spring.dependency-management") version "1.1.7"
+	id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "hexlet.code"
@@ -25,12 +27,25 @@ repositories {
 	mavenCentral()
 }
 
+val loadTest by sourceSets.creating {
+	compileClasspath += sourceSets.main.get().output + sourceSets.test.get().output
+	runtimeClasspath += sourceSets.main.get().output + sourceSets.test.get().output
+}
+
+configurations[loadTest.implementationConfigurationName].extendsFrom(configurations.testImplementation.get())
+configurations[loadTest.runtimeOnlyConfigurationName].extendsFrom(configurations.testRuntimeOnly.get())
+
 dependencies {
 	implementation("org.springframework.boot:spring-boot-starter-actuator")
+	implementation("org.springframework.boot:spring-boot-starter-aop")
+	implementation("org.hibernate.orm:hibernate-micrometer")
+	runtimeOnly("io.micrometer:micrometer-registry-prometheus")
 	implementation("org.springframework.boot:spring-boot-starter-web")
 	implementation("org.springframework.boot:spring-boot-starter-data-jpa")
 	runtimeOnly("com.h2database:h2")
 	implementation("org.postgresql:postgresql:42.7.3")
+	implementation("org.flywaydb:flyway-core")
+	implementation("org.flywaydb:flyway-database-postgresql")
 	compileOnly("org.projectlombok:lombok")
 	developmentOnly("org.springframework.boot:spring-boot-devtools")
 	annotationProcessor("org.projectlombok:lombok")
@@ -45,15 +60,111 @@ dependencies {
 	annotationProcessor("org.mapstruct:mapstruct-processor:1.5.5.Final")
 	implementation("org.springframework.boot:spring-boot-starter-validation")
 	implementation("org.openapitools:jackson-databind-nullable:0.2.6")
+	implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-cbor")
+	implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-smile")
 	implementation("org.springframework.boot:spring-boot-starter-security")
 	implementation("org.springframework.boot:spring-boot-starter-oauth2-resource-server")
 	testImplementation("org.springframework.security:spring-security-test")
+	"loadTestImplementation"("org.hdrhistogram:HdrHistogram:2.2.2")
 }
 
 tasks.withType<Test> {
 	useJUnitPlatform()
 }
 
+tasks.register<Test>("loadTest") {
+	description = "Runs load tests against the application started in-process."
+	group = "verification"
+	testClassesDirs = loadTest.output.classesDirs
+	classpath = loadTest.runtimeClasspath
+	shouldRunAfter(tasks.test)
+	System.getProperties().stringPropertyNames()
+		.filter { it.startsWith("loadTest.") }
+		.forEach { systemProperty(it, System.getProperty(it)) }
+	testLogging {
+		showStandardStreams = true
+	}
+}
+
+tasks.register<Copy>("promoteLoadBaseline") {
+	description = "Copies the baselines recorded by the last load test run over the committed ones."
+	group = "verification"
+	from(layout.buildDirectory.dir("reports/load-test")) {
+		include("*.properties")
+	}
+	into(layout.projectDirectory.dir("src/loadTest/resources/load-baseline"))
+}
+
+jmh {
+	jmhVersion = "1.37"
+	includeTests = true
+	fork = 1
+	warmupIterations = 3
+	iterations = 5
+	resultFormat = "JSON"
+	resultsFile = layout.buildDirectory.file("reports/jmh/results.json")
+	includes = providers.gradleProperty("jmhIncludes").map { listOf(it) }.orElse(emptyList())
+}
+
+val aotProfiles = providers.gradleProperty("aotProfiles").getOrElse("production")
+
+tasks.processAot {
+	args("--spring.profiles.active=$aotProfiles")
+}
+
+tasks.matching { it.name.startsWith("checkstyleAot") }.configureEach {
+	enabled = false
+}
+
+val fastStart = layout.buildDirectory.dir("fast-start")
+val toolchainLauncher = javaToolchains.launcherFor(java.toolchain)
+
+tasks.register<Exec>("extractBootJar") {
+	description = "Extracts the boot jar into build/fast-start, the layout class-data sharing needs."
+	group = "build"
+	dependsOn(tasks.bootJar)
+	inputs.file(tasks.bootJar.flatMap { it.archiveFile })
+	outputs.dir(fastStart)
+	doFirst {
+		executable = toolchainLauncher.get().executablePath.asFile.absolutePath
+		args("-Djarmode=tools", "-jar", tasks.bootJar.get().archiveFile.get().asFile.absolutePath,
+			"extract", "--force", "--destination", fastStart.get().asFile.absolutePath)
+	}
+	doLast {
+		val dir = fastStart.get().asFile
+		dir.resolve(tasks.bootJar.get().archiveFileName.get()).renameTo(dir.resolve("app.jar"))
+	}
+}
+
+tasks.register<Exec>("trainCds") {
+	description = "Runs the AOT-processed application up to context refresh to record an AppCDS archive."
+	group = "build"
+	dependsOn("extractBootJar")
+	outputs.file(fastStart.map { it.file("app.jsa") })
+	environment("JDBC_DATABASE_URL", "jdbc:h2:mem:cds")
+	environment("USERNAME", "sa")
+	environment("PASSWORD", "")
+	doFirst {
+		workingDir = fastStart.get().asFile
+		executable = toolchainLauncher.get().executablePath.asFile.absolutePath
+		args("-XX:ArchiveClassesAtExit=app.jsa", "-Dspring.aot.enabled=true", "-Dspring.context.exit=onRefresh",
+			"-jar", "app.jar", "--spring.profiles.active=$aotProfiles")
+	}
+}
+
+tasks.register<JavaExec>("startupBenchmark") {
+	description = "Starts the application in each launch mode and reports the time until it is ready."
+	group = "verification"
+	dependsOn("trainCds")
+	classpath = loadTest.runtimeClasspath
+	mainClass = "hexlet.code.startup.StartupBenchmark"
+	javaLauncher = toolchainLauncher
+	doFirst {
+		args(fastStart.get().asFile.absolutePath, toolchainLauncher.get().executablePath.asFile.absolutePath,
+			providers.gradleProperty("startupRuns").getOrElse("5"))
+	}
+}
+
 tasks.jacocoTestReport {
 	reports {
 		xml.required = true
@@ -0,0 +1,54 @@
+package hexlet.code.benchmark;
+
+import hexlet.code.AppApplication;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * The application context shared by the benchmarks of a fork.
+ * Started once per trial on the in-memory database and a random port, so the benchmarks run offline
+ * against the same beans the request path uses.
+ */
+@State(Scope.Benchmark)
+public class ApplicationState {
+
+    private ConfigurableApplicationContext context;
+
+    /**
+     * Starts the application.
+     */
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(AppApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=warn",
+                        "sql-instrumentation.enabled=false")
+                .run();
+    }
+
+    /**
+     * Stops the application.
+     */
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    /**
+     * Looks up a bean of the application.
+     *
+     * @param <T> the bean type
+     * @param type the bean type
+     * @return the bean
+     */
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+}
@@ -0,0 +1,97 @@
+package hexlet.code.benchmark;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.dto.task.TaskShowDTO;
+import hexlet.code.mapper.TaskMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Encoding and decoding a 10k-task {@code GET /api/tasks} response as JSON, CBOR and Smile,
+ * with the object mappers the message converters use.
+ * Payload sizes do not vary between runs, so they are written once per format
+ * to {@code build/reports/jmh/payload-sizes.txt} instead of being measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BinaryFormatBenchmark {
+
+    private static final int TASKS = 10_000;
+    private static final Path SIZES = Path.of("build", "reports", "jmh", "payload-sizes.txt");
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    private ObjectMapper objectMapper;
+    private JavaType listType;
+    private List<TaskShowDTO> response;
+    private byte[] payload;
+
+    /**
+     * Picks the object mapper of the format, builds the response and records its encoded size.
+     *
+     * @param application the running application
+     * @throws IOException if the size cannot be recorded
+     */
+    @Setup
+    public void setUp(ApplicationState application) throws IOException {
+        objectMapper = switch (format) {
+            case "cbor" -> application.bean(MappingJackson2CborHttpMessageConverter.class).getObjectMapper();
+            case "smile" -> application.bean(MappingJackson2SmileHttpMessageConverter.class).getObjectMapper();
+            default -> application.bean(Jackson2ObjectMapperBuilder.class).build();
+        };
+        listType = objectMapper.getTypeFactory().constructCollectionType(List.class, TaskShowDTO.class);
+        TaskMapper mapper = application.bean(TaskMapper.class);
+        response = LongStream.rangeClosed(1, TASKS)
+                .mapToObj(Fixtures::task)
+                .map(mapper::map)
+                .toList();
+        payload = objectMapper.writeValueAsBytes(response);
+
+        Files.createDirectories(SIZES.getParent());
+        Files.writeString(SIZES, String.format(Locale.ROOT, "%-6s %,d tasks: %,d bytes%n", format, TASKS,
+                payload.length), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * The task list to bytes, as the message converter writes it.
+     *
+     * @return the encoded response
+     * @throws IOException never, the DTOs are serializable
+     */
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    /**
+     * The encoded task list back to DTOs, as a client reads it.
+     *
+     * @return the decoded response
+     * @throws IOException never, the payload was written by the same mapper
+     */
+    @Benchmark
+    public List<TaskShowDTO> decode() throws IOException {
+        return objectMapper.readValue(payload, listType);
+    }
+}
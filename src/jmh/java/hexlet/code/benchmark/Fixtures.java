@@ -0,0 +1,42 @@
+package hexlet.code.benchmark;
+
+import hexlet.code.model.Label;
+import hexlet.code.model.Task;
+import hexlet.code.model.TaskStatus;
+import hexlet.code.model.User;
+import hexlet.code.util.InstanceGenerator;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Detached entities shaped like the ones the API serves.
+ */
+final class Fixtures {
+
+    private static final int LABELS_PER_TASK = 3;
+
+    private Fixtures() {
+    }
+
+    static Task task(long id) {
+        TaskStatus status = InstanceGenerator.getTaskStatus();
+        status.setId(id);
+        User assignee = InstanceGenerator.getUser();
+        assignee.setId(id);
+
+        Set<Label> labels = new HashSet<>();
+        for (int i = 0; i < LABELS_PER_TASK; i++) {
+            Label label = InstanceGenerator.getLabel();
+            label.setId(id * LABELS_PER_TASK + i);
+            labels.add(label);
+        }
+
+        Task task = InstanceGenerator.getTask();
+        task.setId(id);
+        task.setTaskStatus(status);
+        task.setAssignee(assignee);
+        task.setLabels(labels);
+        return task;
+    }
+}
@@ -0,0 +1,61 @@
+package hexlet.code.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.dto.task.TaskShowDTO;
+import hexlet.code.mapper.TaskMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Serialization of the {@code GET /api/tasks} response with the object mapper
+ * built from the {@link hexlet.code.config.JacksonConfig} builder.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int tasks;
+
+    private ObjectMapper objectMapper;
+    private List<TaskShowDTO> response;
+
+    /**
+     * Builds the object mapper and the response.
+     *
+     * @param application the running application
+     */
+    @Setup
+    public void setUp(ApplicationState application) {
+        objectMapper = application.bean(Jackson2ObjectMapperBuilder.class).build();
+        TaskMapper mapper = application.bean(TaskMapper.class);
+        response = LongStream.rangeClosed(1, tasks)
+                .mapToObj(Fixtures::task)
+                .map(mapper::map)
+                .toList();
+    }
+
+    /**
+     * The task list to JSON bytes, as the message converter writes it.
+     *
+     * @return the JSON
+     * @throws JsonProcessingException never, the DTOs are serializable
+     */
+    @Benchmark
+    public byte[] serializeTasks() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,59 @@
+package hexlet.code.benchmark;
+
+import hexlet.code.util.JWTUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issue on login and token verification on every authenticated request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtBenchmark {
+
+    private JWTUtils jwtUtils;
+    private JwtDecoder jwtDecoder;
+    private String token;
+
+    /**
+     * Looks up the encoder and the decoder and issues the token to decode.
+     *
+     * @param application the running application
+     */
+    @Setup
+    public void setUp(ApplicationState application) {
+        jwtUtils = application.bean(JWTUtils.class);
+        jwtDecoder = application.bean(JwtDecoder.class);
+        token = jwtUtils.generateToken("hexlet@example.com");
+    }
+
+    /**
+     * Signs a token with the RSA private key.
+     *
+     * @return the token
+     */
+    @Benchmark
+    public String generateToken() {
+        return jwtUtils.generateToken("hexlet@example.com");
+    }
+
+    /**
+     * Verifies the signature and the claims of a token.
+     *
+     * @return the decoded token
+     */
+    @Benchmark
+    public Jwt decode() {
+        return jwtDecoder.decode(token);
+    }
+}
@@ -0,0 +1,105 @@
+package hexlet.code.benchmark;
+
+import hexlet.code.dto.task.TaskCreateDTO;
+import hexlet.code.dto.task.TaskShowDTO;
+import hexlet.code.dto.user.UserShowDTO;
+import hexlet.code.dto.user.UserUpdateDTO;
+import hexlet.code.mapper.TaskMapper;
+import hexlet.code.mapper.UserMapper;
+import hexlet.code.model.Task;
+import hexlet.code.model.User;
+import hexlet.code.util.InstanceGenerator;
+import org.openapitools.jackson.nullable.JsonNullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MapStruct mappers on the task and user request paths.
+ * The user update carries no password, so it measures the {@link JsonNullable} handling, not BCrypt.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MapperBenchmark {
+
+    private TaskMapper taskMapper;
+    private UserMapper userMapper;
+    private Task task;
+    private TaskCreateDTO taskCreate;
+    private User user;
+    private UserUpdateDTO userUpdate;
+
+    /**
+     * Looks up the mappers and builds the fixtures.
+     *
+     * @param application the running application
+     */
+    @Setup
+    public void setUp(ApplicationState application) {
+        taskMapper = application.bean(TaskMapper.class);
+        userMapper = application.bean(UserMapper.class);
+        task = Fixtures.task(1);
+
+        taskCreate = new TaskCreateDTO();
+        taskCreate.setTitle(task.getName());
+        taskCreate.setContent(task.getDescription());
+        taskCreate.setIndex(task.getIndex());
+        taskCreate.setStatus(task.getTaskStatus().getSlug());
+        taskCreate.setAssigneeId(task.getAssignee().getId());
+        taskCreate.setTaskLabelIds(Set.of(1L, 2L, 3L));
+
+        user = InstanceGenerator.getUser();
+        userUpdate = new UserUpdateDTO();
+        userUpdate.setFirstName(JsonNullable.of("First"));
+        userUpdate.setLastName(JsonNullable.of("Last"));
+    }
+
+    /**
+     * Task entity to response.
+     *
+     * @return the response DTO
+     */
+    @Benchmark
+    public TaskShowDTO taskToShowDto() {
+        return taskMapper.map(task);
+    }
+
+    /**
+     * Create request to task entity.
+     *
+     * @return the entity
+     */
+    @Benchmark
+    public Task taskCreateDtoToTask() {
+        return taskMapper.map(taskCreate);
+    }
+
+    /**
+     * Partial user update applied through {@link hexlet.code.mapper.JsonNullableMapper}.
+     *
+     * @return the updated entity
+     */
+    @Benchmark
+    public User userUpdate() {
+        userMapper.update(userUpdate, user);
+        return user;
+    }
+
+    /**
+     * User entity to response.
+     *
+     * @return the response DTO
+     */
+    @Benchmark
+    public UserShowDTO userToShowDto() {
+        return userMapper.map(user);
+    }
+}
@@ -0,0 +1,119 @@
+package hexlet.code.benchmark;
+
+import hexlet.code.dto.task.TaskParamsDTO;
+import hexlet.code.model.Task;
+import hexlet.code.repository.LabelRepository;
+import hexlet.code.specification.TaskSpecification;
+import hexlet.code.util.InstanceGenerator;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The task filter of {@code GET /api/tasks}, from parameters to a query.
+ * Hibernate translates criteria queries to SQL on every execution, so running the query against
+ * the empty tasks table measures the translation plus a trivial round trip to the in-memory database.
+ * The label filter looks the label up while building the predicate, which the {@code withLabel} variants show.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskSpecificationBenchmark {
+
+    private TaskSpecification specification;
+    private EntityManager entityManager;
+    private TaskParamsDTO params;
+    private TaskParamsDTO paramsWithLabel;
+
+    /**
+     * Looks up the specification builder and prepares the filters.
+     *
+     * @param application the running application
+     */
+    @Setup
+    public void setUp(ApplicationState application) {
+        specification = application.bean(TaskSpecification.class);
+        entityManager = application.bean(EntityManagerFactory.class).createEntityManager();
+
+        params = new TaskParamsDTO();
+        params.setTitleCont("report");
+        params.setAssigneeId(1L);
+        params.setStatus("to_publish");
+
+        paramsWithLabel = new TaskParamsDTO();
+        paramsWithLabel.setTitleCont("report");
+        paramsWithLabel.setAssigneeId(1L);
+        paramsWithLabel.setStatus("to_publish");
+        paramsWithLabel.setLabelId(application.bean(LabelRepository.class).save(InstanceGenerator.getLabel()).getId());
+    }
+
+    /**
+     * Closes the entity manager.
+     */
+    @TearDown
+    public void tearDown() {
+        entityManager.close();
+    }
+
+    /**
+     * Parameters to a criteria query.
+     *
+     * @return the query
+     */
+    @Benchmark
+    public TypedQuery<Task> buildQuery() {
+        return query(params);
+    }
+
+    /**
+     * Parameters to a criteria query, with the label filter.
+     *
+     * @return the query
+     */
+    @Benchmark
+    public TypedQuery<Task> buildQueryWithLabel() {
+        return query(paramsWithLabel);
+    }
+
+    /**
+     * Parameters to SQL, executed against the empty table.
+     *
+     * @return the empty result
+     */
+    @Benchmark
+    public List<Task> buildAndExecute() {
+        return query(params).getResultList();
+    }
+
+    /**
+     * Parameters to SQL with the label filter, executed against the empty table.
+     *
+     * @return the empty result
+     */
+    @Benchmark
+    public List<Task> buildAndExecuteWithLabel() {
+        return query(paramsWithLabel).getResultList();
+    }
+
+    private TypedQuery<Task> query(TaskParamsDTO filter) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Task> query = builder.createQuery(Task.class);
+        Root<Task> task = query.from(Task.class);
+        query.where(specification.build(filter).toPredicate(task, query, builder));
+        return entityManager.createQuery(query);
+    }
+}
@@ -0,0 +1,93 @@
+package hexlet.code.loadtest;
+
+import org.junit.jupiter.api.Assumptions;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+
+/**
+ * Stored throughput and p99 of a load run, and the check of a new run against them.
+ * A run regresses when the p99 of an operation grows, or its throughput drops,
+ * by more than {@code loadTest.tolerance} (25% by default) against the baseline.
+ * Every run is recorded under {@code build/reports/load-test}; baselines are machine-specific, so a recorded run
+ * becomes the committed baseline only through {@code ./gradlew promoteLoadBaseline} on the release machine.
+ * A run without a committed baseline fails, or is skipped with {@code -DloadTest.requireBaseline=false},
+ * so a missing file never passes as "no regressions".
+ */
+final class Baseline {
+
+    static final Path DIRECTORY = Path.of("src", "loadTest", "resources", "load-baseline");
+
+    static final Path RECORDED = LoadReport.DIRECTORY;
+
+    private static final double TOLERANCE = Double.parseDouble(System.getProperty("loadTest.tolerance", "0.25"));
+    private static final boolean REQUIRED =
+            Boolean.parseBoolean(System.getProperty("loadTest.requireBaseline", "true"));
+
+    private Baseline() {
+    }
+
+    /**
+     * Records a run as a candidate baseline and compares it with the committed one.
+     *
+     * @param report the run
+     * @return the regressions, empty if there are none
+     * @throws IOException if the baseline cannot be read or the run cannot be recorded
+     * @throws IllegalStateException if there is no committed baseline and one is required
+     */
+    static List<String> regressions(LoadReport report) throws IOException {
+        Path recorded = RECORDED.resolve(report.name() + ".properties");
+        store(report, recorded);
+        System.out.println("Recorded baseline candidate " + recorded);
+
+        Path file = DIRECTORY.resolve(report.name() + ".properties");
+        if (!Files.exists(file)) {
+            String message = "No baseline at " + file + "; if this run is representative, promote it with "
+                    + "./gradlew promoteLoadBaseline and commit the file";
+            if (REQUIRED) {
+                throw new IllegalStateException(message);
+            }
+            System.out.println("SKIPPED: " + message);
+            Assumptions.abort(message);
+        }
+
+        Properties baseline = new Properties();
+        try (Reader reader = Files.newBufferedReader(file)) {
+            baseline.load(reader);
+        }
+        List<String> regressions = new ArrayList<>();
+        for (LoadReport.OperationStats stats : report.operations()) {
+            String p99 = baseline.getProperty(stats.operation() + ".p99Ms");
+            if (p99 != null && stats.p99() > Double.parseDouble(p99) * (1 + TOLERANCE)) {
+                regressions.add(String.format("%s p99 %.2fms exceeds baseline %sms",
+                        stats.operation(), stats.p99(), p99));
+            }
+            String throughput = baseline.getProperty(stats.operation() + ".rps");
+            if (throughput != null && stats.throughput() < Double.parseDouble(throughput) * (1 - TOLERANCE)) {
+                regressions.add(String.format("%s throughput %.1f rps below baseline %s rps",
+                        stats.operation(), stats.throughput(), throughput));
+            }
+        }
+        return regressions;
+    }
+
+    private static void store(LoadReport report, Path file) throws IOException {
+        Properties baseline = new Properties();
+        for (LoadReport.OperationStats stats : report.operations()) {
+            baseline.setProperty(stats.operation() + ".p99Ms", String.format(Locale.ROOT, "%.2f", stats.p99()));
+            baseline.setProperty(stats.operation() + ".rps", String.format(Locale.ROOT, "%.1f", stats.throughput()));
+        }
+        Files.createDirectories(file.getParent());
+        try (Writer writer = Files.newBufferedWriter(file)) {
+            baseline.store(writer, "Load baseline of " + report.name() + ", clients=" + report.clients()
+                    + ", seconds=" + report.duration().toSeconds());
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package hexlet.code.loadtest;
+
+import hexlet.code.model.TaskStatus;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+import java.time.LocalDateTime;
+
+import static jakarta.persistence.GenerationType.IDENTITY;
+
+/**
+ * The {@code tasks} table mapped with the IDENTITY ids tasks used before, as the baseline
+ * of {@link InsertThroughputLoadTest}. The column defaults to the next sequence value, so both mappings work.
+ */
+@Entity
+@Table(name = "tasks")
+public class IdentityTask {
+
+    @Id
+    @GeneratedValue(strategy = IDENTITY)
+    private Long id;
+
+    private String name;
+
+    private int index;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    private TaskStatus taskStatus;
+
+    private LocalDateTime createdAt;
+
+    protected IdentityTask() {
+    }
+
+    IdentityTask(String taskName, int taskIndex, TaskStatus status) {
+        this.name = taskName;
+        this.index = taskIndex;
+        this.taskStatus = status;
+        this.createdAt = LocalDateTime.now();
+    }
+}
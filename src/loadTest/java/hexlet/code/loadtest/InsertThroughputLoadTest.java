@@ -0,0 +1,93 @@
+package hexlet.code.loadtest;
+
+import hexlet.code.model.Task;
+import hexlet.code.model.TaskStatus;
+import hexlet.code.repository.TaskStatusRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Inserts the same tasks once with IDENTITY ids and once with the pooled sequence ids,
+ * in chunks of one transaction each, and reports rows per second for both.
+ * IDENTITY needs a round trip per row for the key, so Hibernate cannot batch those inserts.
+ */
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+public final class InsertThroughputLoadTest {
+
+    private static final int ROWS = Integer.getInteger("loadTest.insertRows", 100_000);
+    private static final int WARM_UP_ROWS = 10_000;
+    private static final int CHUNK = 1_000;
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private TaskStatusRepository statusRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void compareIdStrategies() throws IOException {
+        TaskStatus status = statusRepository.findBySlug("draft").orElseThrow();
+        IntFunction<Object> identity = i -> new IdentityTask("task-" + i, i, status);
+        IntFunction<Object> sequence = i -> task(status, i);
+
+        insert(identity, WARM_UP_ROWS);
+        insert(sequence, WARM_UP_ROWS);
+        double identityRate = insert(identity, ROWS);
+        double sequenceRate = insert(sequence, ROWS);
+
+        String report = String.format("rows=%d identity=%.0f rows/s sequence=%.0f rows/s speedup=%.2fx",
+                ROWS, identityRate, sequenceRate, sequenceRate / identityRate);
+        System.out.println(report);
+        Path reports = Path.of("build", "reports", "load-test");
+        Files.createDirectories(reports);
+        Files.writeString(reports.resolve("insert-throughput.txt"), report + System.lineSeparator());
+    }
+
+    private double insert(IntFunction<Object> factory, int rows) {
+        jdbcTemplate.update("DELETE FROM tasks");
+        long start = System.nanoTime();
+        for (int from = 0; from < rows; from += CHUNK) {
+            int first = from;
+            int last = Math.min(from + CHUNK, rows);
+            transactionTemplate.executeWithoutResult(tx -> {
+                for (int i = first; i < last; i++) {
+                    entityManager.persist(factory.apply(i));
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+        }
+        long elapsed = System.nanoTime() - start;
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tasks", Long.class)).isEqualTo(rows);
+        jdbcTemplate.update("DELETE FROM tasks");
+        return rows / (elapsed / NANOS_PER_SECOND);
+    }
+
+    private static Task task(TaskStatus status, int i) {
+        Task task = new Task();
+        task.setName("task-" + i);
+        task.setIndex(i);
+        task.setTaskStatus(status);
+        return task;
+    }
+
+}
@@ -0,0 +1,53 @@
+package hexlet.code.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.SplittableRandom;
+
+/**
+ * One simulated API client: an authenticated HTTP session with its own random source
+ * and the IDs of the tasks it created, so that it only updates and deletes its own tasks.
+ */
+final class LoadClient {
+
+    private final HttpClient http;
+    private final String baseUri;
+    private final String token;
+    private final SplittableRandom random;
+    private final Deque<Long> createdTaskIds = new ArrayDeque<>();
+
+    LoadClient(HttpClient httpClient, String applicationUri, String bearerToken, long seed) {
+        this.http = httpClient;
+        this.baseUri = applicationUri;
+        this.token = bearerToken;
+        this.random = new SplittableRandom(seed);
+    }
+
+    HttpResponse<String> send(String method, String path, String json) throws IOException, InterruptedException {
+        HttpRequest.BodyPublisher body = json == null
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofString(json);
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUri + path))
+                .method(method, body);
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        if (json != null) {
+            request.header("Content-Type", "application/json");
+        }
+        return http.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    SplittableRandom random() {
+        return random;
+    }
+
+    Deque<Long> createdTaskIds() {
+        return createdTaskIds;
+    }
+}
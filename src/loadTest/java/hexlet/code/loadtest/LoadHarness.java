@@ -0,0 +1,171 @@
+package hexlet.code.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntFunction;
+
+/**
+ * Drives a weighted mix of operations from many virtual-thread clients for a fixed time
+ * and records the latency of every operation in an HdrHistogram.
+ * Operations finished during the warm-up are not recorded.
+ */
+final class LoadHarness {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    /**
+     * Result of one operation call.
+     */
+    enum Outcome {
+        SUCCESS,
+        FAILURE,
+        /**
+         * The client had nothing to run the operation on; neither timed nor counted.
+         */
+        SKIPPED
+    }
+
+    /**
+     * One request of the workload, run by a client.
+     */
+    @FunctionalInterface
+    interface Call {
+        Outcome run(LoadClient client) throws IOException, InterruptedException;
+    }
+
+    /**
+     * A named operation and its share of the workload.
+     *
+     * @param name the name used in the report and the baseline
+     * @param weight the relative frequency of the operation
+     * @param call the request
+     */
+    record Operation(String name, int weight, Call call) {
+    }
+
+    /**
+     * The operations with their cumulative weights, for drawing one in proportion to its weight.
+     *
+     * @param operations the operations
+     * @param thresholds the running sum of the weights, per operation
+     */
+    private record Mix(List<Operation> operations, int[] thresholds) {
+
+        static Mix of(List<Operation> operations) {
+            int[] thresholds = new int[operations.size()];
+            int totalWeight = 0;
+            for (int i = 0; i < operations.size(); i++) {
+                totalWeight += operations.get(i).weight();
+                thresholds[i] = totalWeight;
+            }
+            return new Mix(operations, thresholds);
+        }
+
+        int draw(SplittableRandom random) {
+            int draw = random.nextInt(thresholds[thresholds.length - 1]);
+            int index = 0;
+            while (draw >= thresholds[index]) {
+                index++;
+            }
+            return index;
+        }
+    }
+
+    private final IntFunction<LoadClient> clientFactory;
+
+    LoadHarness(IntFunction<LoadClient> clients) {
+        this.clientFactory = clients;
+    }
+
+    LoadReport run(String name, List<Operation> workload, int clients, Duration warmUp, Duration duration) {
+        Mix mix = Mix.of(workload);
+        Recorder[] latencies = new Recorder[workload.size()];
+        LongAdder[] errors = new LongAdder[workload.size()];
+        for (int i = 0; i < workload.size(); i++) {
+            latencies[i] = new Recorder(SIGNIFICANT_DIGITS);
+            errors[i] = new LongAdder();
+        }
+
+        long measureFrom = System.nanoTime() + warmUp.toNanos();
+        long deadline = measureFrom + duration.toNanos();
+        List<Future<?>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clients; i++) {
+                LoadClient client = clientFactory.apply(i);
+                results.add(executor.submit(() -> {
+                    drive(client, mix, latencies, errors, measureFrom, deadline);
+                    return null;
+                }));
+            }
+        }
+        for (Future<?> result : results) {
+            join(result);
+        }
+
+        List<LoadReport.OperationStats> stats = new ArrayList<>();
+        Histogram all = new Histogram(SIGNIFICANT_DIGITS);
+        long allErrors = 0;
+        for (int i = 0; i < workload.size(); i++) {
+            Histogram histogram = latencies[i].getIntervalHistogram();
+            all.add(histogram);
+            allErrors += errors[i].sum();
+            stats.add(LoadReport.OperationStats.of(workload.get(i).name(), histogram, errors[i].sum(), duration));
+        }
+        stats.addFirst(LoadReport.OperationStats.of(LoadReport.ALL, all, allErrors, duration));
+        return new LoadReport(name, clients, duration, stats);
+    }
+
+    private static void drive(LoadClient client, Mix mix, Recorder[] latencies, LongAdder[] errors,
+                              long measureFrom, long deadline) {
+        while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+            int index = mix.draw(client.random());
+            long start = System.nanoTime();
+            Outcome outcome;
+            try {
+                outcome = mix.operations().get(index).call().run(client);
+            } catch (IOException | UncheckedIOException e) {
+                outcome = Outcome.FAILURE;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            long end = System.nanoTime();
+            if (start < measureFrom || end > deadline || outcome == Outcome.SKIPPED) {
+                continue;
+            }
+            if (outcome == Outcome.SUCCESS) {
+                latencies[index].recordValue(end - start);
+            } else {
+                errors[index].increment();
+            }
+        }
+    }
+
+    static Outcome expect(HttpResponse<?> response, int status) {
+        return response.statusCode() == status ? Outcome.SUCCESS : Outcome.FAILURE;
+    }
+
+    private static void join(Future<?> result) {
+        try {
+            result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
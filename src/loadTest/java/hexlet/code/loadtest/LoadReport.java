@@ -0,0 +1,79 @@
+package hexlet.code.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Throughput and latency percentiles of one load run, per operation and for all operations together.
+ *
+ * @param name the name of the run, used for the report and the baseline files
+ * @param clients the number of concurrent clients
+ * @param duration the measured time, without the warm-up
+ * @param operations the statistics, the {@link #ALL} entry first
+ */
+record LoadReport(String name, int clients, Duration duration, List<LoadReport.OperationStats> operations) {
+
+    /**
+     * Name of the entry that aggregates every operation.
+     */
+    static final String ALL = "all";
+
+    static final Path DIRECTORY = Path.of("build", "reports", "load-test");
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+    private static final double P50 = 50;
+    private static final double P99 = 99;
+
+    /**
+     * Statistics of one operation.
+     *
+     * @param operation the operation name
+     * @param requests the number of successful requests
+     * @param errors the number of failed requests
+     * @param throughput successful requests per second
+     * @param p50 median latency, in milliseconds
+     * @param p99 99th percentile latency, in milliseconds
+     * @param max maximum latency, in milliseconds
+     */
+    record OperationStats(String operation, long requests, long errors, double throughput,
+                          double p50, double p99, double max) {
+
+        static OperationStats of(String operation, Histogram histogram, long errors, Duration duration) {
+            long requests = histogram.getTotalCount();
+            return new OperationStats(operation, requests, errors,
+                    requests / (duration.toNanos() / NANOS_PER_SECOND),
+                    histogram.getValueAtPercentile(P50) / NANOS_PER_MILLI,
+                    histogram.getValueAtPercentile(P99) / NANOS_PER_MILLI,
+                    histogram.getMaxValue() / NANOS_PER_MILLI);
+        }
+
+        String format() {
+            return String.format("%-10s requests=%d errors=%d rps=%.1f p50=%.2fms p99=%.2fms max=%.2fms",
+                    operation, requests, errors, throughput, p50, p99, max);
+        }
+    }
+
+    OperationStats total() {
+        return operations.getFirst();
+    }
+
+    String format() {
+        return String.format("run=%s clients=%d seconds=%d%n", name, clients, duration.toSeconds())
+                + operations.stream().map(OperationStats::format).collect(Collectors.joining(System.lineSeparator()));
+    }
+
+    Path write(String... extraLines) throws IOException {
+        String report = format() + System.lineSeparator()
+                + String.join(System.lineSeparator(), extraLines);
+        System.out.println(report);
+        Files.createDirectories(DIRECTORY);
+        return Files.writeString(DIRECTORY.resolve(name + ".txt"), report.strip() + System.lineSeparator());
+    }
+}
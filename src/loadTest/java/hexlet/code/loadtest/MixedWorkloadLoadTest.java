@@ -0,0 +1,205 @@
+package hexlet.code.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.model.Label;
+import hexlet.code.model.Task;
+import hexlet.code.model.TaskStatus;
+import hexlet.code.model.User;
+import hexlet.code.repository.LabelRepository;
+import hexlet.code.repository.TaskRepository;
+import hexlet.code.repository.TaskStatusRepository;
+import hexlet.code.repository.UserRepository;
+import hexlet.code.util.InstanceGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.Executors;
+
+import static hexlet.code.loadtest.LoadHarness.expect;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Release gate: boots the application on a random port against H2, seeds a dataset and drives
+ * a mixed workload of logins, filtered lists, shows, creates, updates and deletes from many virtual-thread clients.
+ * Fails when the p99 or the throughput of any operation regresses beyond the stored {@link Baseline}.
+ * The dataset size, client count and durations are set with {@code loadTest.*} system properties.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+            "rate-limit.enabled=false",
+            "concurrency-limit.enabled=false",
+            "sql-instrumentation.slow-threshold=1m"
+        })
+final class MixedWorkloadLoadTest {
+
+    private static final int CLIENTS = Integer.getInteger("loadTest.clients", 200);
+    private static final Duration WARM_UP = Duration.ofSeconds(Long.getLong("loadTest.warmUpSeconds", 5));
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("loadTest.seconds", 20));
+    private static final int USERS = Integer.getInteger("loadTest.users", 50);
+    private static final int LABELS = Integer.getInteger("loadTest.labels", 20);
+    private static final int TASKS = Integer.getInteger("loadTest.tasks", 2_000);
+    private static final long SEED = Long.getLong("loadTest.seed", 42);
+    private static final int MAX_LABELS_PER_TASK = 3;
+    private static final double MAX_ERROR_RATE = 0.01;
+    private static final String LOGIN = "{\"username\":\"hexlet@example.com\",\"password\":\"qwerty\"}";
+    private static final List<String> STATUSES =
+            List.of("draft", "to_review", "to_be_fixed", "to_publish", "published");
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskStatusRepository statusRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private LabelRepository labelRepository;
+
+    @Autowired
+    private ObjectMapper om;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    private record Dataset(List<Long> taskIds, List<Long> userIds, List<Long> labelIds) {
+    }
+
+    @Test
+    void mixedWorkload() throws Exception {
+        Dataset dataset = seed();
+        String baseUri = "http://localhost:" + port;
+        HttpResponse<String> login = new LoadClient(httpClient, baseUri, null, SEED).send("POST", "/api/login", LOGIN);
+        assertThat(login.statusCode()).isEqualTo(200);
+
+        LoadHarness harness = new LoadHarness(i -> new LoadClient(httpClient, baseUri, login.body(), SEED + i));
+        LoadReport report = harness.run("mixed-workload", workload(dataset), CLIENTS, WARM_UP, DURATION);
+        report.write(String.format("dataset: tasks=%d users=%d labels=%d",
+                dataset.taskIds().size(), dataset.userIds().size(), dataset.labelIds().size()));
+
+        LoadReport.OperationStats total = report.total();
+        assertThat(total.requests()).isPositive();
+        assertThat(total.errors()).isLessThanOrEqualTo((long) (total.requests() * MAX_ERROR_RATE));
+        assertThat(Baseline.regressions(report)).isEmpty();
+    }
+
+    private List<LoadHarness.Operation> workload(Dataset dataset) {
+        return List.of(
+                new LoadHarness.Operation("login", 2, c -> expect(c.send("POST", "/api/login", LOGIN), 200)),
+                new LoadHarness.Operation("list", 25, c -> expect(
+                        c.send("GET", "/api/tasks?" + filter(c.random(), dataset), null), 200)),
+                new LoadHarness.Operation("show", 45, c -> expect(
+                        c.send("GET", "/api/tasks/" + pick(c.random(), dataset.taskIds()), null), 200)),
+                new LoadHarness.Operation("create", 12, c -> create(c, dataset)),
+                new LoadHarness.Operation("update", 12, c -> update(c, dataset)),
+                new LoadHarness.Operation("delete", 4, MixedWorkloadLoadTest::delete));
+    }
+
+    private static String filter(SplittableRandom random, Dataset dataset) {
+        return switch (random.nextInt(4)) {
+            case 0 -> "status=" + pick(random, STATUSES);
+            case 1 -> "assigneeId=" + pick(random, dataset.userIds());
+            case 2 -> "labelId=" + pick(random, dataset.labelIds());
+            default -> "titleCont=" + (char) ('a' + random.nextInt(26));
+        };
+    }
+
+    private LoadHarness.Outcome create(LoadClient client, Dataset dataset) throws IOException, InterruptedException {
+        SplittableRandom random = client.random();
+        Map<String, Object> task = new LinkedHashMap<>();
+        task.put("title", "load-" + random.nextLong());
+        task.put("content", "created by the load test");
+        task.put("status", pick(random, STATUSES));
+        task.put("assignee_id", pick(random, dataset.userIds()));
+        task.put("taskLabelIds", labels(random, dataset.labelIds()));
+
+        HttpResponse<String> response = client.send("POST", "/api/tasks", om.writeValueAsString(task));
+        if (response.statusCode() != 201) {
+            return LoadHarness.Outcome.FAILURE;
+        }
+        client.createdTaskIds().add(om.readTree(response.body()).get("id").asLong());
+        return LoadHarness.Outcome.SUCCESS;
+    }
+
+    private LoadHarness.Outcome update(LoadClient client, Dataset dataset) throws IOException, InterruptedException {
+        Long own = client.createdTaskIds().peekLast();
+        long id = own != null ? own : pick(client.random(), dataset.taskIds());
+        String body = om.writeValueAsString(Map.of("title", "updated-" + client.random().nextLong()));
+        return expect(client.send("PUT", "/api/tasks/" + id, body), 200);
+    }
+
+    private static LoadHarness.Outcome delete(LoadClient client) throws IOException, InterruptedException {
+        Long own = client.createdTaskIds().pollFirst();
+        if (own == null) {
+            return LoadHarness.Outcome.SKIPPED;
+        }
+        return expect(client.send("DELETE", "/api/tasks/" + own, null), 204);
+    }
+
+    private Dataset seed() {
+        SplittableRandom random = new SplittableRandom(SEED);
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            users.add(InstanceGenerator.getUser());
+        }
+        userRepository.saveAll(users);
+        List<Label> labels = new ArrayList<>();
+        for (int i = 0; i < LABELS; i++) {
+            labels.add(InstanceGenerator.getLabel());
+        }
+        labelRepository.saveAll(labels);
+        List<TaskStatus> statuses = STATUSES.stream()
+                .map(slug -> statusRepository.findBySlug(slug).orElseThrow())
+                .toList();
+
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < TASKS; i++) {
+            Task task = InstanceGenerator.getTask();
+            task.setTaskStatus(pick(random, statuses));
+            task.setAssignee(pick(random, users));
+            Set<Label> taskLabels = new HashSet<>();
+            for (int j = random.nextInt(MAX_LABELS_PER_TASK + 1); j > 0; j--) {
+                taskLabels.add(pick(random, labels));
+            }
+            task.setLabels(taskLabels);
+            tasks.add(task);
+        }
+        taskRepository.saveAll(tasks);
+
+        return new Dataset(
+                tasks.stream().map(Task::getId).toList(),
+                users.stream().map(User::getId).toList(),
+                labels.stream().map(Label::getId).toList());
+    }
+
+    private static Set<Long> labels(SplittableRandom random, List<Long> labelIds) {
+        Set<Long> picked = new HashSet<>();
+        for (int j = random.nextInt(MAX_LABELS_PER_TASK + 1); j > 0; j--) {
+            picked.add(pick(random, labelIds));
+        }
+        return picked;
+    }
+
+    private static <T> T pick(SplittableRandom random, List<T> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+}
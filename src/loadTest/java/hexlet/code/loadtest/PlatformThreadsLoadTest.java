@@ -0,0 +1,12 @@
+package hexlet.code.loadtest;
+
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = "spring.threads.virtual.enabled=false")
+final class PlatformThreadsLoadTest extends ThreadModeLoadTest {
+
+    @Override
+    protected String mode() {
+        return "platform";
+    }
+}
@@ -0,0 +1,117 @@
+package hexlet.code.loadtest;
+
+import hexlet.code.model.Task;
+import hexlet.code.model.TaskStatus;
+import hexlet.code.model.User;
+import hexlet.code.repository.TaskRepository;
+import hexlet.code.repository.TaskStatusRepository;
+import hexlet.code.repository.UserRepository;
+import hexlet.code.util.InstanceGenerator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static hexlet.code.loadtest.LoadHarness.expect;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives the read endpoints with many concurrent clients against the application started on a random port,
+ * and reports throughput and latency percentiles of the server thread mode under test.
+ * Subclasses pick the thread mode; compare their reports in {@code build/reports/load-test}.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+            "rate-limit.enabled=false",
+            "concurrency-limit.enabled=false",
+            "spring.jpa.show-sql=false"
+        })
+abstract class ThreadModeLoadTest {
+
+    private static final int CLIENTS = Integer.getInteger("loadTest.clients", 200);
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("loadTest.seconds", 10));
+    private static final int TASKS = 200;
+    private static final int SHOWN_TASKS = 10;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskStatusRepository statusRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    /**
+     * Name of the thread mode under test, used in the report.
+     *
+     * @return the mode name
+     */
+    protected abstract String mode();
+
+    @Test
+    final void compareThreadModes() throws Exception {
+        List<Long> taskIds = seed().subList(0, SHOWN_TASKS);
+        String baseUri = "http://localhost:" + port;
+        String token = login(baseUri);
+
+        LoadHarness harness = new LoadHarness(i -> new LoadClient(client, baseUri, token, i));
+        List<LoadHarness.Operation> workload = List.of(
+                new LoadHarness.Operation("tasks", 1, c -> expect(c.send("GET", "/api/tasks", null), 200)),
+                new LoadHarness.Operation("users", 1, c -> expect(c.send("GET", "/api/users", null), 200)),
+                new LoadHarness.Operation("statuses", 1, c -> expect(c.send("GET", "/api/task_statuses", null), 200)),
+                new LoadHarness.Operation("show", SHOWN_TASKS, c -> expect(
+                        c.send("GET", "/api/tasks/" + taskIds.get(c.random().nextInt(SHOWN_TASKS)), null), 200)));
+        LoadReport report = harness.run("thread-mode-" + mode(), workload, CLIENTS, Duration.ZERO, DURATION);
+
+        Timer hold = meterRegistry.find("hikaricp.connections.usage").timer();
+        report.write(String.format("connectionHoldMean=%.2fms connectionHoldMax=%.2fms",
+                hold == null ? 0 : hold.mean(TimeUnit.MILLISECONDS),
+                hold == null ? 0 : hold.max(TimeUnit.MILLISECONDS)));
+
+        assertThat(report.total().requests()).isPositive();
+    }
+
+    private List<Long> seed() {
+        TaskStatus status = statusRepository.findBySlug("draft").orElseThrow();
+        User assignee = userRepository.findByEmail("hexlet@example.com").orElseThrow();
+        List<Task> tasks = new ArrayList<>();
+        for (long i = taskRepository.count(); i < TASKS; i++) {
+            Task task = InstanceGenerator.getTask();
+            task.setTaskStatus(status);
+            task.setAssignee(assignee);
+            tasks.add(task);
+        }
+        taskRepository.saveAll(tasks);
+        return taskRepository.findAll().stream().map(Task::getId).toList();
+    }
+
+    private String login(String baseUri) throws IOException, InterruptedException {
+        HttpResponse<String> response = new LoadClient(client, baseUri, null, 0)
+                .send("POST", "/api/login", "{\"username\":\"hexlet@example.com\",\"password\":\"qwerty\"}");
+        assertThat(response.statusCode()).isEqualTo(200);
+        return response.body();
+    }
+}
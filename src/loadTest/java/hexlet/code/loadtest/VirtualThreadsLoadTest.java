@@ -0,0 +1,15 @@
+package hexlet.code.loadtest;
+
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = {
+    "spring.threads.virtual.enabled=true",
+    "jdbc-bulkhead.enabled=true"
+})
+final class VirtualThreadsLoadTest extends ThreadModeLoadTest {
+
+    @Override
+    protected String mode() {
+        return "virtual";
+    }
+}
@@ -0,0 +1,121 @@
+package hexlet.code.startup;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures time-to-ready of the extracted boot jar in each launch mode: from starting the JVM
+ * until {@code /actuator/health/readiness} answers 200. Runs against the in-memory development database,
+ * so it needs nothing but the output of the {@code trainCds} task.
+ * Started by {@code ./gradlew startupBenchmark}, which writes {@code build/reports/startup/startup.txt}.
+ */
+public final class StartupBenchmark {
+
+    private static final Path DIRECTORY = Path.of("build", "reports", "startup");
+    private static final Duration TIMEOUT = Duration.ofMinutes(2);
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(20);
+    private static final String PROFILES = "--spring.profiles.active=development";
+    private static final String AOT = "-Dspring.aot.enabled=true";
+    private static final String CDS = "-XX:SharedArchiveFile=app.jsa";
+
+    private record Mode(String name, List<String> jvmArgs, String profiles) {
+    }
+
+    private static final List<Mode> MODES = List.of(
+            new Mode("default", List.of(), PROFILES),
+            new Mode("lazy", List.of(), PROFILES + ",fast-start"),
+            new Mode("aot", List.of(AOT), PROFILES),
+            new Mode("cds", List.of(CDS), PROFILES),
+            new Mode("fast-start", List.of(AOT, CDS), PROFILES + ",fast-start"));
+
+    private StartupBenchmark() {
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args the extracted application directory, the java executable and the runs per mode
+     * @throws Exception if the application cannot be started
+     */
+    public static void main(String[] args) throws Exception {
+        Path application = Path.of(args[0]);
+        String java = args[1];
+        int runs = Integer.parseInt(args[2]);
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+        Files.createDirectories(DIRECTORY);
+
+        List<String> lines = new ArrayList<>();
+        for (Mode mode : MODES) {
+            long[] millis = new long[runs];
+            for (int i = 0; i < runs; i++) {
+                Path log = DIRECTORY.resolve(mode.name() + "-" + i + ".log");
+                millis[i] = timeToReady(client, application, java, mode, log);
+            }
+            Arrays.sort(millis);
+            String line = String.format(Locale.ROOT, "%-12s min=%,d ms median=%,d ms max=%,d ms (%d runs)",
+                    mode.name(), millis[0], millis[runs / 2], millis[runs - 1], runs);
+            System.out.println(line);
+            lines.add(line);
+        }
+        Files.write(DIRECTORY.resolve("startup.txt"), lines);
+    }
+
+    private static long timeToReady(HttpClient client, Path application, String java, Mode mode, Path log)
+            throws IOException, InterruptedException {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(java);
+        command.addAll(mode.jvmArgs());
+        command.addAll(List.of("-jar", "app.jar", mode.profiles(), "--server.port=" + port));
+        URI uri = URI.create("http://localhost:" + port + "/actuator/health/readiness");
+        HttpRequest readiness = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(1)).build();
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .directory(application.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        try {
+            while (System.nanoTime() - start < TIMEOUT.toNanos()) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException(
+                            mode.name() + " exited with " + process.exitValue() + ", see " + log);
+                }
+                try {
+                    if (client.send(readiness, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                    }
+                } catch (ConnectException e) {
+                    // not listening yet
+                }
+                Thread.sleep(POLL_INTERVAL.toMillis());
+            }
+            throw new IllegalStateException(mode.name() + " was not ready within " + TIMEOUT + ", see " + log);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package hexlet.code.component;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "concurrency-limit")
+@Setter
+@Getter
+public class ConcurrencyLimitProperties {
+    private boolean enabled = true;
+    private int initialLimit = 100;
+    private int minLimit = 10;
+    private int maxLimit = 1000;
+
+    /**
+     * Latency samples are aggregated over this window before the limit is recalculated.
+     */
+    private Duration sampleWindow = Duration.ofMillis(250);
+
+    /**
+     * Windows with fewer samples are ignored.
+     */
+    private int minSamples = 10;
+
+    /**
+     * Number of windows the long-term (baseline) latency is averaged over.
+     */
+    private int longWindow = 100;
+
+    /**
+     * How much slower than the baseline requests may get before the limit shrinks.
+     */
+    private double rttTolerance = 1.5;
+
+    /**
+     * Share of the new limit estimate applied per window.
+     */
+    private double smoothing = 0.2;
+
+    /**
+     * Value of the Retry-After header of shed requests.
+     */
+    private Duration retryAfter = Duration.ofSeconds(1);
+}
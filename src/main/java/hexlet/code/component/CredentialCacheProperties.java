@@ -0,0 +1,18 @@
+package hexlet.code.component;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "auth.credential-cache")
+@Setter
+@Getter
+public class CredentialCacheProperties {
+    private boolean enabled = true;
+    private Duration ttl = Duration.ofSeconds(60);
+    private int maxEntries = 10_000;
+}
@@ -8,13 +8,16 @@ import hexlet.code.service.UserService;
 import lombok.AllArgsConstructor;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @Component
+@Order(0)
 @AllArgsConstructor
 public final class DataInitializer implements ApplicationRunner {
 
@@ -27,24 +30,33 @@ public final class DataInitializer implements ApplicationRunner {
     public void run(ApplicationArguments args) {
 
         String email = "hexlet@example.com";
-        if (userRepository.findByEmail(email).isEmpty()) {
+        if (!userRepository.existsByEmail(email)) {
             UserCreateDTO userCreateDTO = new UserCreateDTO();
             userCreateDTO.setEmail(email);
             userCreateDTO.setPassword("qwerty");
             userService.create(userCreateDTO);
         }
 
-        List<TaskStatus> statuses = new ArrayList<>(List.of(
+        List<TaskStatus> statuses = List.of(
                 new TaskStatus("draft", "draft"),
                 new TaskStatus("on check", "to_review"),
                 new TaskStatus("to fix", "to_be_fixed"),
                 new TaskStatus("publish", "to_publish"),
-                new TaskStatus("published", "published")));
-
-        for (TaskStatus status : statuses) {
-            if (taskStatusRepository.findByName(status.getName()).isEmpty()) {
-                taskStatusRepository.save(status);
-            }
+                new TaskStatus("published", "published"));
+
+        List<TaskStatus> existing = taskStatusRepository.findAllBySlugInOrNameIn(
+                statuses.stream().map(TaskStatus::getSlug).toList(),
+                statuses.stream().map(TaskStatus::getName).toList());
+        Set<String> taken = new HashSet<>();
+        for (TaskStatus status : existing) {
+            taken.add(status.getSlug());
+            taken.add(status.getName());
+        }
+        List<TaskStatus> missing = statuses.stream()
+                .filter(status -> !taken.contains(status.getSlug()) && !taken.contains(status.getName()))
+                .toList();
+        if (!missing.isEmpty()) {
+            taskStatusRepository.saveAll(missing);
         }
     }
 }
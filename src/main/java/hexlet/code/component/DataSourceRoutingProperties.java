@@ -0,0 +1,42 @@
+package hexlet.code.component;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@ConfigurationProperties(prefix = "datasource-routing")
+@Setter
+@Getter
+public class DataSourceRoutingProperties {
+    private boolean enabled = false;
+
+    /**
+     * After a write, reads of the same user go to the primary for this long; zero disables stickiness.
+     */
+    private Duration stickyWindow = Duration.ofSeconds(5);
+
+    private Duration healthCheckInterval = Duration.ofSeconds(10);
+
+    private Duration healthCheckTimeout = Duration.ofSeconds(1);
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    @Setter
+    @Getter
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+
+        /**
+         * Pool size of the replica; zero means the primary pool size.
+         */
+        private int maximumPoolSize;
+    }
+}
@@ -0,0 +1,33 @@
+package hexlet.code.component;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "dataset")
+@Setter
+@Getter
+public class DatasetProperties {
+    /**
+     * Seed of every random choice; the same seed and sizes generate the same dataset.
+     */
+    private long seed = 42;
+    private int users = 100_000;
+    private int labels = 1_000;
+    private int tasks = 1_000_000;
+    private int maxLabelsPerTask = 4;
+    /**
+     * Zipf exponent of the assignee, label and status distributions; 0 is uniform, higher is more skewed.
+     */
+    private double skew = 1.1;
+    /**
+     * Rows per batched statement or COPY.
+     */
+    private int batchSize = 5_000;
+    /**
+     * Use COPY instead of batched inserts when the database is PostgreSQL.
+     */
+    private boolean copy = true;
+}
@@ -0,0 +1,67 @@
+package hexlet.code.component;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@ConfigurationProperties(prefix = "flight-recording")
+@Setter
+@Getter
+public class FlightRecordingProperties {
+    /**
+     * Length of a recording started without a duration.
+     */
+    private Duration defaultDuration = Duration.ofSeconds(60);
+
+    /**
+     * Upper bound of a recording, whatever duration is asked for.
+     */
+    private Duration maxDuration = Duration.ofMinutes(10);
+
+    /**
+     * Size at which the oldest recorded chunks are dropped.
+     */
+    private DataSize maxSize = DataSize.ofMegabytes(256);
+
+    /**
+     * Built-in JFR configuration the settings below are applied on top of.
+     */
+    private String configuration = "default";
+
+    /**
+     * Event settings overriding the configuration, keyed as {@code <event>#<setting>}.
+     * Environment variables and system properties are left out, as they may hold secrets.
+     */
+    private Map<String, String> settings = new LinkedHashMap<>(Map.ofEntries(
+            Map.entry("hexlet.ServiceCall#threshold", "0 ms"),
+            Map.entry("hexlet.TaskQuery#threshold", "0 ms"),
+            Map.entry("hexlet.MapperCall#threshold", "1 ms"),
+            Map.entry("hexlet.JwtDecode#threshold", "0 ms"),
+            Map.entry("hexlet.PasswordHash#threshold", "0 ms"),
+            Map.entry("jdk.ObjectAllocationSample#throttle", "300/s"),
+            Map.entry("jdk.ExecutionSample#period", "10 ms"),
+            Map.entry("jdk.JavaMonitorEnter#threshold", "10 ms"),
+            Map.entry("jdk.ThreadPark#threshold", "10 ms"),
+            Map.entry("jdk.SocketRead#threshold", "10 ms"),
+            Map.entry("jdk.InitialEnvironmentVariable#enabled", "false"),
+            Map.entry("jdk.InitialSystemProperty#enabled", "false")));
+
+    /**
+     * Token scope required by the endpoint, checked as the {@code SCOPE_<scope>} authority.
+     */
+    private String scope = "jfr";
+
+    /**
+     * Usernames whose login tokens carry the scope; nobody by default.
+     */
+    private List<String> operators = new ArrayList<>();
+}
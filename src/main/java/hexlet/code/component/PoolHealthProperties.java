@@ -0,0 +1,29 @@
+package hexlet.code.component;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "pool-health")
+@Setter
+@Getter
+public class PoolHealthProperties {
+    /**
+     * A pool is saturated when connections acquired within the window waited longer than this on average.
+     */
+    private Duration acquireWaitThreshold = Duration.ofMillis(500);
+
+    /**
+     * How often the pool meters are sampled.
+     */
+    private Duration sampleInterval = Duration.ofSeconds(10);
+
+    /**
+     * How far back a check looks; rounded up to the next sample.
+     */
+    private Duration window = Duration.ofSeconds(30);
+}
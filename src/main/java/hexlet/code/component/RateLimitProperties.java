@@ -0,0 +1,53 @@
+package hexlet.code.component;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+@Setter
+@Getter
+public class RateLimitProperties {
+    private boolean enabled = true;
+
+    /**
+     * Upper bound of tracked clients per route; idle clients are evicted first.
+     */
+    private int maxKeys = 100_000;
+
+    /**
+     * POST /api/login, per client IP.
+     */
+    private Limit login = new Limit(20, Duration.ofMinutes(1));
+
+    /**
+     * GET requests under /api, per user or client IP.
+     */
+    private Limit list = new Limit(1200, Duration.ofMinutes(1));
+
+    /**
+     * POST, PUT, PATCH and DELETE requests under /api, per user or client IP.
+     */
+    private Limit write = new Limit(300, Duration.ofMinutes(1));
+
+    /**
+     * Failed authentications of requests under /api, per client IP. Once used up, requests carrying
+     * credentials are answered 429 before the credentials are checked.
+     */
+    private Limit authFailure = new Limit(20, Duration.ofMinutes(1));
+
+    @Setter
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Limit {
+        private long capacity;
+        private Duration period;
+    }
+}
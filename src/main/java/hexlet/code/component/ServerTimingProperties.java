@@ -0,0 +1,24 @@
+package hexlet.code.component;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "server-timing")
+@Setter
+@Getter
+public class ServerTimingProperties {
+    /**
+     * Whether sampled API requests of authenticated callers get a {@code Server-Timing} header.
+     * Off by default: the phase timings tell clients about the server's internals.
+     */
+    private boolean enabled;
+
+    /**
+     * Share of API requests that get a {@code Server-Timing} header, from 0 to 1.
+     * Sampled responses are serialized into a buffer first, so the header can include serialization time.
+     */
+    private double sampleRate = 0.05;
+}
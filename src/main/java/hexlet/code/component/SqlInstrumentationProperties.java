@@ -0,0 +1,47 @@
+package hexlet.code.component;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "sql-instrumentation")
+@Setter
+@Getter
+public class SqlInstrumentationProperties {
+    private boolean enabled = true;
+
+    /**
+     * Statements running at least this long are logged.
+     */
+    private Duration slowThreshold = Duration.ofMillis(200);
+
+    /**
+     * Log bind parameter types only, not their values.
+     */
+    private boolean redactParameters = true;
+
+    /**
+     * The first stack frame in this package is reported as the caller of a slow statement.
+     */
+    private String callerPackage = "hexlet.code.service";
+
+    /**
+     * Statement shapes beyond this many share the "other" meters, to bound metric cardinality.
+     */
+    private int maxStatements = 500;
+
+    /**
+     * Statement tags longer than this are cut and suffixed with a hash of the full shape.
+     */
+    private int statementTagLength = 120;
+
+    /**
+     * Publish histogram buckets of statement latency instead of client-side percentiles.
+     * Buckets aggregate across instances but add dozens of series per statement shape.
+     */
+    private boolean percentileHistogram = false;
+}
@@ -0,0 +1,53 @@
+package hexlet.code.component;
+
+import hexlet.code.warmup.WarmUpOperation;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@ConfigurationProperties(prefix = "warm-up")
+@Setter
+@Getter
+public class WarmUpProperties {
+    private boolean enabled = false;
+
+    /**
+     * Rounds of the workload; every round runs each operation once.
+     */
+    private int iterations = 300;
+
+    /**
+     * Warm-up stops after this long even if rounds are left, so a slow node still becomes ready.
+     */
+    private Duration timeout = Duration.ofSeconds(60);
+
+    private List<WarmUpOperation> operations = new ArrayList<>(List.of(WarmUpOperation.values()));
+
+    /**
+     * Query string of the list operation, without the leading {@code ?}.
+     */
+    private String listQuery = "";
+
+    /**
+     * Credentials the login operation authenticates with, in-process.
+     */
+    private String username = "hexlet@example.com";
+    private String password = "qwerty";
+
+    /**
+     * Subject of the tokens the list and show requests are sent with. It is not a user, so the requests
+     * fill a rate-limit bucket of their own instead of draining a real user's.
+     */
+    private String principal = "warm-up";
+
+    /**
+     * Status slug of the tasks created, and rolled back, by the create operation.
+     */
+    private String status = "draft";
+}
@@ -0,0 +1,115 @@
+package hexlet.code.concurrency;
+
+import hexlet.code.component.ConcurrencyLimitProperties;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Concurrency limit adjusted from observed latency, gradient style.
+ * Compares the average latency of the last sample window with a long-term baseline:
+ * while latency stays within the tolerance the limit grows by a queue allowance of sqrt(limit),
+ * when latency rises above the baseline the limit shrinks proportionally (at most by half per window).
+ * Acquire and release are lock-free; the recalculation runs once per window on whichever
+ * thread closes it.
+ */
+final class AdaptiveLimit {
+
+    private static final double MAX_DECREASE = 0.5;
+    private static final double BASELINE_RECOVERY = 0.95;
+    private static final double BASELINE_DRIFT = 2.0;
+
+    private final ConcurrencyLimitProperties properties;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+    private final LongAdder rttSum = new LongAdder();
+    private final LongAdder samples = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+    private final ReentrantLock updateLock = new ReentrantLock();
+    private volatile double limit;
+
+    /**
+     * Long-term average latency; guarded by updateLock.
+     */
+    private double longRtt;
+
+    AdaptiveLimit(ConcurrencyLimitProperties concurrencyLimitProperties) {
+        this.properties = concurrencyLimitProperties;
+        this.limit = concurrencyLimitProperties.getInitialLimit();
+    }
+
+    boolean tryAcquire() {
+        int current = inFlight.incrementAndGet();
+        if (current > (int) limit) {
+            inFlight.decrementAndGet();
+            rejected.increment();
+            return false;
+        }
+        peakInFlight.accumulateAndGet(current, Math::max);
+        return true;
+    }
+
+    void release(long rttNanos) {
+        inFlight.decrementAndGet();
+        rttSum.add(rttNanos);
+        samples.increment();
+
+        long now = System.nanoTime();
+        if (now - windowStart.get() >= properties.getSampleWindow().toNanos() && updateLock.tryLock()) {
+            try {
+                update(now);
+            } finally {
+                updateLock.unlock();
+            }
+        }
+    }
+
+    int getLimit() {
+        return (int) limit;
+    }
+
+    int getInFlight() {
+        return inFlight.get();
+    }
+
+    long getRejected() {
+        return rejected.sum();
+    }
+
+    private void update(long now) {
+        if (now - windowStart.get() < properties.getSampleWindow().toNanos()) {
+            return;
+        }
+        windowStart.set(now);
+        long count = samples.sumThenReset();
+        long sum = rttSum.sumThenReset();
+        int peak = peakInFlight.getAndSet(inFlight.get());
+        if (count < properties.getMinSamples()) {
+            return;
+        }
+
+        double shortRtt = (double) sum / count;
+        if (longRtt == 0) {
+            longRtt = shortRtt;
+        } else {
+            longRtt += (shortRtt - longRtt) / properties.getLongWindow();
+        }
+        // After a sustained slowdown the baseline lags behind; pull it back once latency recovers.
+        if (longRtt / shortRtt > BASELINE_DRIFT) {
+            longRtt *= BASELINE_RECOVERY;
+        }
+
+        double current = limit;
+        double gradient = Math.max(MAX_DECREASE, Math.min(1.0, properties.getRttTolerance() * longRtt / shortRtt));
+        double estimate = current * gradient + Math.sqrt(current);
+        if (estimate > current && peak < current / 2) {
+            // The limit was not the bottleneck in this window, so there is no evidence it should grow.
+            return;
+        }
+        double smoothed = current * (1 - properties.getSmoothing()) + estimate * properties.getSmoothing();
+        limit = Math.max(properties.getMinLimit(), Math.min(properties.getMaxLimit(), smoothed));
+    }
+}
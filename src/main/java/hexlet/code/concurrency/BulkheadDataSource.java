@@ -0,0 +1,133 @@
+package hexlet.code.concurrency;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Semaphore bulkhead in front of a connection pool.
+ * A permit is taken when a connection is checked out and returned when it is closed, so with
+ * the permit count equal to the pool size, callers queue on a fair semaphore with a short timeout
+ * instead of piling up in the pool's wait queue until the pool timeout. This keeps thousands
+ * of virtual threads from turning into connection timeouts.
+ */
+public final class BulkheadDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final int maxConcurrent;
+    private final long acquireTimeoutNanos;
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * Wraps the given data source.
+     *
+     * @param target the pooled data source
+     * @param maxConcurrentConnections number of permits, normally the pool size
+     * @param acquireTimeout how long a caller may wait for a permit
+     */
+    public BulkheadDataSource(DataSource target, int maxConcurrentConnections, Duration acquireTimeout) {
+        super(target);
+        this.permits = new Semaphore(maxConcurrentConnections, true);
+        this.maxConcurrent = maxConcurrentConnections;
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return guard(super.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return guard(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Number of permits.
+     *
+     * @return maximum number of connections checked out at once
+     */
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    /**
+     * Number of permits currently available.
+     *
+     * @return free permits
+     */
+    public int getAvailable() {
+        return permits.availablePermits();
+    }
+
+    /**
+     * Number of callers waiting for a permit.
+     *
+     * @return queue length estimate
+     */
+    public int getWaiting() {
+        return permits.getQueueLength();
+    }
+
+    /**
+     * Number of connection requests that timed out waiting for a permit.
+     *
+     * @return rejected connection requests
+     */
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    private void acquire() throws SQLException {
+        try {
+            if (!permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                rejected.increment();
+                throw new SQLTransientConnectionException(
+                        "JDBC bulkhead: no connection available within " + Duration.ofNanos(acquireTimeoutNanos));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("JDBC bulkhead: interrupted while waiting for a connection", e);
+        }
+    }
+
+    private Connection guard(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[] {Connection.class},
+                (proxy, method, args) -> {
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    } finally {
+                        if ("close".equals(method.getName()) && released.compareAndSet(false, true)) {
+                            permits.release();
+                        }
+                    }
+                });
+    }
+}
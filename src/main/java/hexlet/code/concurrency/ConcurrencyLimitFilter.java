@@ -0,0 +1,59 @@
+package hexlet.code.concurrency;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.AllArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Sheds API requests above the adaptive concurrency limit with 503 and {@code Retry-After}
+ * instead of letting them queue for a server thread or a database connection.
+ * Runs ahead of the security filter chain, so shed requests cost no authentication work.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@AllArgsConstructor
+public final class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    /**
+     * Limits of the read and write groups.
+     */
+    private final ConcurrencyLimiter limiter;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (!limiter.isEnabled() || !path.startsWith("/api/")) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        String method = request.getMethod();
+        String group = HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method)
+                ? ConcurrencyLimiter.READ
+                : ConcurrencyLimiter.WRITE;
+        if (!limiter.tryAcquire(group)) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(limiter.getRetryAfterSeconds()));
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            limiter.release(group, System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package hexlet.code.concurrency;
+
+import hexlet.code.component.ConcurrencyLimitProperties;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * Adaptive concurrency limits for read and write API requests.
+ * Reads and writes are limited separately, so a slow write path does not starve reads and vice versa.
+ */
+@Component
+public final class ConcurrencyLimiter {
+
+    /**
+     * Group of GET and HEAD requests.
+     */
+    public static final String READ = "read";
+
+    /**
+     * Group of modifying requests.
+     */
+    public static final String WRITE = "write";
+
+    /**
+     * Concurrency limit settings.
+     */
+    private final ConcurrencyLimitProperties properties;
+
+    /**
+     * Limit of the read group.
+     */
+    private final AdaptiveLimit read;
+
+    /**
+     * Limit of the write group.
+     */
+    private final AdaptiveLimit write;
+
+    /**
+     * Creates the limits and registers their metrics.
+     *
+     * @param concurrencyLimitProperties concurrency limit settings
+     * @param registry meter registry for the metrics
+     */
+    public ConcurrencyLimiter(ConcurrencyLimitProperties concurrencyLimitProperties, MeterRegistry registry) {
+        this.properties = concurrencyLimitProperties;
+        this.read = new AdaptiveLimit(concurrencyLimitProperties);
+        this.write = new AdaptiveLimit(concurrencyLimitProperties);
+        register(READ, read, registry);
+        register(WRITE, write, registry);
+    }
+
+    /**
+     * Whether concurrency limiting is switched on.
+     *
+     * @return true if requests should be limited
+     */
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * Value of the Retry-After header for shed requests.
+     *
+     * @return seconds the client should wait
+     */
+    public long getRetryAfterSeconds() {
+        return properties.getRetryAfter().toSeconds();
+    }
+
+    /**
+     * Takes an in-flight slot of the group.
+     *
+     * @param group {@link #READ} or {@link #WRITE}
+     * @return true if the request may proceed, false if it must be shed
+     */
+    public boolean tryAcquire(String group) {
+        return limit(group).tryAcquire();
+    }
+
+    /**
+     * Returns the slot taken by {@link #tryAcquire(String)} and records the request latency.
+     *
+     * @param group {@link #READ} or {@link #WRITE}
+     * @param rttNanos request processing time
+     */
+    public void release(String group, long rttNanos) {
+        limit(group).release(rttNanos);
+    }
+
+    private AdaptiveLimit limit(String group) {
+        return READ.equals(group) ? read : write;
+    }
+
+    private static void register(String group, AdaptiveLimit limit, MeterRegistry registry) {
+        Gauge.builder("http.concurrency.limit", limit, AdaptiveLimit::getLimit)
+                .tag("group", group)
+                .register(registry);
+        Gauge.builder("http.concurrency.inflight", limit, AdaptiveLimit::getInFlight)
+                .tag("group", group)
+                .register(registry);
+        FunctionCounter.builder("http.concurrency.rejected", limit, AdaptiveLimit::getRejected)
+                .tag("group", group)
+                .register(registry);
+    }
+}
@@ -0,0 +1,105 @@
+package hexlet.code.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import hexlet.code.component.DataSourceRoutingProperties;
+import hexlet.code.datasource.ReplicaRoutingDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read-replica routing configuration.
+ * Replaces the auto-configured data source with a {@link ReplicaRoutingDataSource} over the primary pool
+ * ({@code spring.datasource.*}) and the replica pools ({@code datasource-routing.replicas}),
+ * behind a {@link LazyConnectionDataSourceProxy}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource-routing.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    /**
+     * Creates the primary pool from the standard datasource settings.
+     *
+     * @param properties the {@code spring.datasource} settings
+     * @return the primary pool
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource pool = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        pool.setPoolName("primary");
+        return pool;
+    }
+
+    /**
+     * Creates the routing data source over the primary and the replica pools.
+     * The replica pools are not beans; the routing data source closes them when it is destroyed.
+     *
+     * @param primaryDataSource the primary pool
+     * @param routingProperties the routing settings
+     * @param environment the application environment, for the bulkhead settings
+     * @param meterRegistry the registry the replica pool metrics are registered in
+     * @return the routing data source
+     * @throws SQLException if the primary pool cannot be inspected
+     */
+    @Bean
+    ReplicaRoutingDataSource replicaRoutingDataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                                      DataSourceRoutingProperties routingProperties,
+                                                      Environment environment,
+                                                      MeterRegistry meterRegistry) throws SQLException {
+        boolean bulkhead = environment.getProperty("jdbc-bulkhead.enabled", Boolean.class, false);
+        HikariConfig primaryPool = primaryDataSource.isWrapperFor(HikariDataSource.class)
+                ? primaryDataSource.unwrap(HikariDataSource.class)
+                : new HikariConfig();
+
+        List<DataSource> replicas = new ArrayList<>();
+        for (DataSourceRoutingProperties.Replica settings : routingProperties.getReplicas()) {
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName("replica-" + replicas.size());
+            pool.setJdbcUrl(settings.getUrl());
+            pool.setUsername(settings.getUsername());
+            pool.setPassword(settings.getPassword());
+            pool.setReadOnly(true);
+            int maximumPoolSize = settings.getMaximumPoolSize() > 0
+                    ? settings.getMaximumPoolSize()
+                    : primaryPool.getMaximumPoolSize();
+            if (maximumPoolSize > 0) {
+                pool.setMaximumPoolSize(maximumPoolSize);
+            }
+            pool.setConnectionTimeout(primaryPool.getConnectionTimeout());
+            pool.setLeakDetectionThreshold(primaryPool.getLeakDetectionThreshold());
+            pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicas.add(bulkhead ? JdbcBulkheadConfig.bulkhead(environment, pool) : pool);
+        }
+
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas,
+                routingProperties.getStickyWindow(), routingProperties.getHealthCheckTimeout());
+    }
+
+    /**
+     * The application data source: defers fetching the physical connection until the first statement,
+     * when the read-only flag of the transaction is known and the route can be chosen.
+     *
+     * @param replicaRoutingDataSource the routing data source
+     * @return the lazy proxy over the routing data source
+     */
+    @Bean
+    @Primary
+    DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+}
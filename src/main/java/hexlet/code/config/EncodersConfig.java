@@ -16,6 +16,8 @@ import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
 import com.nimbusds.jose.jwk.source.JWKSource;
 import com.nimbusds.jose.proc.SecurityContext;
 import hexlet.code.component.RsaKeyProperties;
+import hexlet.code.jfr.RecordingJwtDecoder;
+import hexlet.code.jfr.RecordingPasswordEncoder;
 
 /**
  * Configuration class for managing various encoding and decoding mechanisms in the application.
@@ -34,12 +36,13 @@ public class EncodersConfig {
      * Creates and returns a PasswordEncoder for secure password hashing.
      * Uses the BCrypt algorithm, which is recommended for password storage
      * due to its adaptive complexity and resistance to brute force attacks.
+     * Every hash and check is reported as a {@link hexlet.code.jfr.PasswordHashEvent} to flight recordings.
      *
      * @return BCryptPasswordEncoder for password hashing
      */
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new RecordingPasswordEncoder(new BCryptPasswordEncoder());
     }
 
     /**
@@ -61,11 +64,12 @@ public class EncodersConfig {
     /**
      * Creates and returns a JWT decoder for verifying token signatures.
      * Uses the public RSA key to verify JWT token signatures.
+     * Every decoded token is reported as a {@link hexlet.code.jfr.JwtDecodeEvent} to flight recordings.
      *
      * @return NimbusJwtDecoder for verifying JWT token signatures
      */
     @Bean
     JwtDecoder jwtDecoder() {
-        return NimbusJwtDecoder.withPublicKey(rsaKeys.getPublicKey()).build();
+        return new RecordingJwtDecoder(NimbusJwtDecoder.withPublicKey(rsaKeys.getPublicKey()).build());
     }
 }
@@ -1,11 +1,16 @@
 package hexlet.code.config;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import org.openapitools.jackson.nullable.JsonNullableModule;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 
 @Configuration
 public class JacksonConfig {
@@ -23,4 +28,30 @@ public class JacksonConfig {
                 .simpleDateFormat("yyyy-MM-dd HH:mm:ssZ");
         return builder;
     }
+
+    /**
+     * CBOR ({@code application/cbor}) support for the API, configured like the JSON object mapper.
+     *
+     * @param builder the application object mapper builder
+     * @return Bean MappingJackson2CborHttpMessageConverter
+     */
+    @Bean
+    MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        ObjectMapper mapper = new CBORMapper();
+        builder.configure(mapper);
+        return new MappingJackson2CborHttpMessageConverter(mapper);
+    }
+
+    /**
+     * Smile ({@code application/x-jackson-smile}) support for the API, configured like the JSON object mapper.
+     *
+     * @param builder the application object mapper builder
+     * @return Bean MappingJackson2SmileHttpMessageConverter
+     */
+    @Bean
+    MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        ObjectMapper mapper = new SmileMapper();
+        builder.configure(mapper);
+        return new MappingJackson2SmileHttpMessageConverter(mapper);
+    }
 }
@@ -0,0 +1,112 @@
+package hexlet.code.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import hexlet.code.concurrency.BulkheadDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * Configuration of the JDBC bulkhead used together with virtual threads.
+ * Wraps the Hikari pool in a {@link BulkheadDataSource} sized to the pool.
+ */
+@Configuration
+@ConditionalOnProperty(name = "jdbc-bulkhead.enabled", havingValue = "true")
+public class JdbcBulkheadConfig {
+
+    /**
+     * Wraps pooled data sources into the bulkhead.
+     * Declared static, so that it is created before the data source without pulling in other beans.
+     *
+     * @param environment the application environment holding the bulkhead settings
+     * @return the post processor
+     */
+    @Bean
+    static BulkheadPostProcessor jdbcBulkheadPostProcessor(Environment environment) {
+        return new BulkheadPostProcessor(environment);
+    }
+
+    /**
+     * Wraps a pool into a bulkhead sized to the pool, unless {@code jdbc-bulkhead.max-concurrent} is set.
+     * Also used for pools that are not beans, like the replica pools of the routing data source.
+     *
+     * @param environment the application environment holding the bulkhead settings
+     * @param pool the pool to wrap
+     * @return the bulkhead in front of the pool
+     */
+    static BulkheadDataSource bulkhead(Environment environment, HikariDataSource pool) {
+        int permits = environment.getProperty("jdbc-bulkhead.max-concurrent", Integer.class, 0);
+        Duration timeout = environment.getProperty(
+                "jdbc-bulkhead.acquire-timeout", Duration.class, Duration.ofSeconds(5));
+        return new BulkheadDataSource(pool, permits > 0 ? permits : pool.getMaximumPoolSize(), timeout);
+    }
+
+    /**
+     * Exports the bulkhead state as metrics.
+     *
+     * @param dataSource the application data source
+     * @return the meter binder
+     */
+    @Bean
+    MeterBinder jdbcBulkheadMetrics(DataSource dataSource) {
+        return registry -> {
+            BulkheadDataSource bulkhead = unwrap(dataSource);
+            if (bulkhead == null) {
+                return;
+            }
+            Gauge.builder("jdbc.bulkhead.permits", bulkhead, BulkheadDataSource::getMaxConcurrent)
+                    .register(registry);
+            Gauge.builder("jdbc.bulkhead.available", bulkhead, BulkheadDataSource::getAvailable)
+                    .register(registry);
+            Gauge.builder("jdbc.bulkhead.waiting", bulkhead, BulkheadDataSource::getWaiting)
+                    .register(registry);
+            FunctionCounter.builder("jdbc.bulkhead.rejected", bulkhead, BulkheadDataSource::getRejected)
+                    .register(registry);
+        };
+    }
+
+    private static BulkheadDataSource unwrap(DataSource dataSource) {
+        if (dataSource instanceof BulkheadDataSource bulkhead) {
+            return bulkhead;
+        }
+        try {
+            return dataSource.isWrapperFor(BulkheadDataSource.class)
+                    ? dataSource.unwrap(BulkheadDataSource.class)
+                    : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Ordered, so it runs before the unordered post processors that wrap the data source further
+     * and still sees the pool itself.
+     */
+    static final class BulkheadPostProcessor implements BeanPostProcessor, Ordered {
+        private final Environment environment;
+
+        BulkheadPostProcessor(Environment env) {
+            this.environment = env;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            return bean instanceof HikariDataSource pool ? bulkhead(environment, pool) : bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package hexlet.code.config;
+
+import hexlet.code.metrics.ControllerTimingInterceptor;
+import hexlet.code.metrics.ServiceTimingAspect;
+import hexlet.code.metrics.TimedJacksonHttpMessageConverter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Application metrics: per-method timers of the controllers and services,
+ * and the phases of sampled requests reported in the {@code Server-Timing} header.
+ */
+@Configuration
+@AllArgsConstructor
+public class MetricsConfig implements WebMvcConfigurer {
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Creates the aspect timing services and mappers.
+     *
+     * @param registry the meter registry
+     * @return the aspect
+     */
+    @Bean
+    ServiceTimingAspect serviceTimingAspect(MeterRegistry registry) {
+        return new ServiceTimingAspect(registry);
+    }
+
+    /**
+     * Registers the interceptor timing the controllers.
+     *
+     * @param registry the interceptor registry
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ControllerTimingInterceptor(meterRegistry));
+    }
+
+    /**
+     * Replaces the JSON converter with one reporting the serialization time.
+     *
+     * @param converters the configured converters
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.replaceAll(converter -> converter instanceof MappingJackson2HttpMessageConverter jackson
+                && !(converter instanceof TimedJacksonHttpMessageConverter)
+                ? new TimedJacksonHttpMessageConverter(jackson.getObjectMapper())
+                : converter);
+    }
+}
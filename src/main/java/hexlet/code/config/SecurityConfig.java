@@ -1,5 +1,13 @@
 package hexlet.code.config;
 
+import hexlet.code.component.FlightRecordingProperties;
+import hexlet.code.ratelimit.AuthenticationFailureLimitFilter;
+import hexlet.code.ratelimit.RateLimitFilter;
+import hexlet.code.ratelimit.RateLimiter;
+import hexlet.code.security.ApiKeyAuthenticationFilter;
+import hexlet.code.security.ApiKeyIndex;
+import hexlet.code.security.CachingAuthenticationProvider;
+import hexlet.code.security.CredentialCache;
 import hexlet.code.service.UserService;
 import lombok.AllArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -16,7 +24,9 @@ import org.springframework.security.config.annotation.web.configurers.AbstractHt
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.server.resource.web.authentication.BearerTokenAuthenticationFilter;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
 import org.springframework.web.servlet.handler.HandlerMappingIntrospector;
 
 /**
@@ -45,9 +55,33 @@ public class SecurityConfig {
      */
     private final UserService userService;
 
+    /**
+     * Cache of recently verified username/password pairs.
+     */
+    private final CredentialCache credentialCache;
+
+    /**
+     * In-memory index of active API keys.
+     */
+    private final ApiKeyIndex apiKeyIndex;
+
+    /**
+     * Per-client token buckets for API requests.
+     */
+    private final RateLimiter rateLimiter;
+
+    /**
+     * Flight recording settings, including the scope its endpoint requires.
+     */
+    private final FlightRecordingProperties flightRecordingProperties;
+
     /**
      * Configures the security filter chain for the application.
      * Defines security rules for different endpoints and authentication mechanisms.
+     * API keys are checked first, before JWT and HTTP Basic authentication.
+     * Rate limits are applied once the client is authenticated; failed authentications are limited
+     * per client IP before any credentials are checked.
+     * The flight recording endpoint additionally requires the operator scope.
      *
      * @param http the HttpSecurity configuration
      * @param introspector the HandlerMappingIntrospector
@@ -63,12 +97,18 @@ public class SecurityConfig {
                         .requestMatchers("/api/login").permitAll()
                         .requestMatchers("/welcome").permitAll()
                         .requestMatchers("/").permitAll()
+                        .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
+                        .requestMatchers("/actuator/jfr", "/actuator/jfr/**")
+                                .hasAuthority("SCOPE_" + flightRecordingProperties.getScope())
                         .requestMatchers("/index.html").permitAll()
                         .requestMatchers("/assets/**").permitAll()
                         .requestMatchers("/swagger-ui/**").permitAll()
                         .requestMatchers("/v3/api-docs/**").permitAll()
                         .anyRequest().authenticated())
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .addFilterBefore(new ApiKeyAuthenticationFilter(apiKeyIndex), BearerTokenAuthenticationFilter.class)
+                .addFilterBefore(new AuthenticationFailureLimitFilter(rateLimiter), ApiKeyAuthenticationFilter.class)
+                .addFilterAfter(new RateLimitFilter(rateLimiter), BasicAuthenticationFilter.class)
                 .oauth2ResourceServer((rs) -> rs.jwt((jwt) -> jwt.decoder(jwtDecoder)))
                 .httpBasic(Customizer.withDefaults())
                 .build();
@@ -91,15 +131,17 @@ public class SecurityConfig {
     /**
      * Creates and configures the authentication provider that uses the user service
      * and password encoder for authenticating users.
+     * The provider is wrapped with the credential cache, so repeated HTTP Basic
+     * authentications skip the user lookup and the BCrypt check.
      *
      * @param auth the AuthenticationManagerBuilder
-     * @return the configured DaoAuthenticationProvider
+     * @return the configured DaoAuthenticationProvider behind the credential cache
      */
     @Bean
     public AuthenticationProvider daoAuthProvider(AuthenticationManagerBuilder auth) {
         var provider = new DaoAuthenticationProvider();
         provider.setUserDetailsService(userService);
         provider.setPasswordEncoder(passwordEncoder);
-        return provider;
+        return new CachingAuthenticationProvider(provider, credentialCache);
     }
 }
@@ -0,0 +1,54 @@
+package hexlet.code.config;
+
+import hexlet.code.component.SqlInstrumentationProperties;
+import hexlet.code.datasource.InstrumentedDataSource;
+import hexlet.code.datasource.SqlStatementMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.function.SingletonSupplier;
+
+import javax.sql.DataSource;
+
+/**
+ * SQL instrumentation: wraps the application data source in an {@link InstrumentedDataSource},
+ * replacing {@code spring.jpa.show-sql} with per-statement metrics and a slow-statement log.
+ */
+@Configuration
+@ConditionalOnProperty(name = "sql-instrumentation.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlInstrumentationConfig {
+
+    /**
+     * Wraps the {@code dataSource} bean, so with replica routing every target is covered once.
+     * Not ordered, so it runs after the JDBC bulkhead and times statements rather than permit waits.
+     *
+     * @param metrics the statement recorder, looked up on the first statement
+     * @return the post processor
+     */
+    @Bean
+    static BeanPostProcessor sqlInstrumentationPostProcessor(ObjectProvider<SqlStatementMetrics> metrics) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return "dataSource".equals(beanName) && bean instanceof DataSource dataSource
+                        ? new InstrumentedDataSource(dataSource, SingletonSupplier.of(metrics::getObject))
+                        : bean;
+            }
+        };
+    }
+
+    /**
+     * Creates the statement recorder.
+     *
+     * @param registry the meter registry
+     * @param properties the instrumentation settings
+     * @return the recorder
+     */
+    @Bean
+    SqlStatementMetrics sqlStatementMetrics(MeterRegistry registry, SqlInstrumentationProperties properties) {
+        return new SqlStatementMetrics(registry, properties);
+    }
+}
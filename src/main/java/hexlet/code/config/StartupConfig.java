@@ -0,0 +1,95 @@
+package hexlet.code.config;
+
+import org.springframework.aot.AotDetector;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.ReflectionUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Fast-start support.
+ * With {@code spring.main.lazy-initialization} on, as in the {@code fast-start} profile, beans are created
+ * on first use, except the ones nothing asks for but which must still run: beans with scheduled methods,
+ * whose schedules are only registered once the bean is created.
+ * With {@code spring.aot.enabled} on, the property conditions were evaluated when the application was built,
+ * so startup fails when the runtime properties ask for a different set of optional configurations.
+ */
+@Configuration
+public class StartupConfig {
+
+    private static final List<AotCondition> AOT_CONDITIONS = List.of(
+            new AotCondition("datasource-routing.enabled", false, DataSourceRoutingConfig.class),
+            new AotCondition("jdbc-bulkhead.enabled", false, JdbcBulkheadConfig.class),
+            new AotCondition("sql-instrumentation.enabled", true, SqlInstrumentationConfig.class));
+
+    /**
+     * An on/off property and the configuration it conditions.
+     *
+     * @param property the property name
+     * @param matchIfMissing whether the configuration applies when the property is not set
+     * @param configuration the conditional configuration class
+     */
+    private record AotCondition(String property, boolean matchIfMissing, Class<?> configuration) {
+    }
+
+    /**
+     * Keeps beans with scheduled methods eager under lazy initialization.
+     *
+     * @return the exclude filter
+     */
+    @Bean
+    static LazyInitializationExcludeFilter scheduledBeansExcludeFilter() {
+        return (beanName, beanDefinition, beanType) -> beanType != null && hasScheduledMethods(beanType);
+    }
+
+    /**
+     * Fails startup from AOT-generated bean definitions that disagree with the runtime properties.
+     *
+     * @param environment the runtime environment
+     * @return the check, a no-op when AOT artifacts are not used
+     */
+    @Bean
+    static BeanFactoryPostProcessor aotConditionsCheck(Environment environment) {
+        return beanFactory -> {
+            if (!AotDetector.useGeneratedArtifacts()) {
+                return;
+            }
+            List<String> mismatches = aotMismatches(beanFactory, environment);
+            if (!mismatches.isEmpty()) {
+                throw new IllegalStateException("The AOT build does not match the runtime properties: "
+                        + mismatches + "; rebuild with -PaotProfiles set to the runtime profiles,"
+                        + " or start without spring.aot.enabled");
+            }
+        };
+    }
+
+    static List<String> aotMismatches(ConfigurableListableBeanFactory beanFactory, Environment environment) {
+        List<String> mismatches = new ArrayList<>();
+        for (AotCondition condition : AOT_CONDITIONS) {
+            boolean enabled = "true".equalsIgnoreCase(
+                    environment.getProperty(condition.property(), String.valueOf(condition.matchIfMissing())));
+            boolean built = beanFactory.getBeanNamesForType(condition.configuration(), true, false).length > 0;
+            if (enabled != built) {
+                mismatches.add(condition.property() + " is " + enabled + " but was " + built + " at build time");
+            }
+        }
+        return mismatches;
+    }
+
+    private static boolean hasScheduledMethods(Class<?> beanType) {
+        AtomicBoolean found = new AtomicBoolean();
+        ReflectionUtils.doWithMethods(beanType,
+                method -> found.set(true),
+                method -> !found.get() && AnnotatedElementUtils.hasAnnotation(method, Scheduled.class));
+        return found.get();
+    }
+}
@@ -0,0 +1,78 @@
+package hexlet.code.controller.api;
+
+import hexlet.code.dto.apikey.ApiKeyCreateDTO;
+import hexlet.code.dto.apikey.ApiKeyShowDTO;
+import hexlet.code.service.ApiKeyService;
+import jakarta.validation.Valid;
+import lombok.AllArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * REST controller for managing API keys of a user.
+ * Only the user themselves can list, create and revoke their keys.
+ */
+@RestController
+@RequestMapping("/api/users/{id}/keys")
+@AllArgsConstructor
+public class ApiKeyController {
+
+    /**
+     * Service layer for API key operations.
+     */
+    private final ApiKeyService apiKeyService;
+
+    /**
+     * Lists the API keys of a user, without the key values.
+     *
+     * @param id the user ID
+     * @return list of API key DTOs
+     */
+    @GetMapping
+    @PreAuthorize(value = "@userUtils.getCurrentUser().getId() == #id")
+    public ResponseEntity<List<ApiKeyShowDTO>> getAll(@PathVariable long id) {
+        List<ApiKeyShowDTO> result = apiKeyService.getAll(id);
+        return ResponseEntity.ok()
+                .header("X-Total-Count", String.valueOf(result.size()))
+                .body(result);
+    }
+
+    /**
+     * Creates a new API key for a user.
+     * The raw key is part of this response only and cannot be retrieved later.
+     *
+     * @param id the user ID
+     * @param data API key creation data
+     * @return created API key DTO including the raw key
+     */
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    @PreAuthorize(value = "@userUtils.getCurrentUser().getId() == #id")
+    public ApiKeyShowDTO create(@PathVariable long id, @Valid @RequestBody ApiKeyCreateDTO data) {
+        return apiKeyService.create(id, data);
+    }
+
+    /**
+     * Revokes an API key of a user.
+     *
+     * @param id the user ID
+     * @param keyId the API key ID
+     */
+    @DeleteMapping("/{keyId}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @PreAuthorize(value = "@userUtils.getCurrentUser().getId() == #id")
+    public void delete(@PathVariable long id, @PathVariable long keyId) {
+        apiKeyService.delete(id, keyId);
+    }
+}
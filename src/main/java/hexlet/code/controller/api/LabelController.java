@@ -2,6 +2,8 @@ package hexlet.code.controller.api;
 
 import hexlet.code.dto.label.LabelCreateDTO;
 import hexlet.code.dto.label.LabelShowDTO;
+import hexlet.code.dto.label.LabelTasksDTO;
+import hexlet.code.dto.label.LabelTasksResultDTO;
 import hexlet.code.dto.label.LabelUpdateDTO;
 
 import hexlet.code.service.LabelService;
@@ -12,6 +14,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -55,7 +58,17 @@ public final class LabelController {
 
     @DeleteMapping(path = "/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
-    public void delete(@PathVariable long id) {
-        labelService.deleteById(id);
+    public void delete(@PathVariable long id, @RequestParam(required = false) Long mergeInto) {
+        labelService.deleteById(id, mergeInto);
+    }
+
+    @PostMapping(path = "/{id}/tasks")
+    public LabelTasksResultDTO attachToTasks(@PathVariable long id, @Valid @RequestBody LabelTasksDTO data) {
+        return labelService.attachToTasks(id, data);
+    }
+
+    @DeleteMapping(path = "/{id}/tasks")
+    public LabelTasksResultDTO detachFromTasks(@PathVariable long id, @Valid @RequestBody LabelTasksDTO data) {
+        return labelService.detachFromTasks(id, data);
     }
 }
@@ -2,6 +2,7 @@ package hexlet.code.controller.api;
 
 import hexlet.code.dto.taskstatus.TaskStatusCreateDTO;
 import hexlet.code.dto.taskstatus.TaskStatusShowDTO;
+import hexlet.code.dto.taskstatus.TaskStatusTransitionDTO;
 import hexlet.code.dto.taskstatus.TaskStatusUpdateDTO;
 
 import hexlet.code.service.TaskStatusService;
@@ -12,6 +13,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -55,7 +57,15 @@ public final class TaskStatusController {
 
     @DeleteMapping(path = "/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
-    public void delete(@PathVariable long id) {
-        taskStatusService.delete(id);
+    public void delete(@PathVariable long id, @RequestParam(required = false) Long reassignTo) {
+        taskStatusService.delete(id, reassignTo);
+    }
+
+    @PostMapping(path = "/{from}/transition")
+    public TaskStatusTransitionDTO transition(@PathVariable String from,
+                                              @RequestParam String to,
+                                              @RequestParam(required = false) Long assigneeId,
+                                              @RequestParam(required = false) Long labelId) {
+        return taskStatusService.transition(from, to, assigneeId, labelId);
     }
 }
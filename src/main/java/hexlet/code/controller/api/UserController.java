@@ -16,6 +16,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
@@ -90,6 +91,20 @@ public class UserController {
         return userService.update(id, userUpdateDTO);
     }
 
+    /**
+     * Partially updates an existing user, writing only the changed columns.
+     * Only the user themselves can update their own information.
+     *
+     * @param id            user ID to update
+     * @param userUpdateDTO the fields to change
+     */
+    @PatchMapping("/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @PreAuthorize(value = "@userUtils.getCurrentUser().getId() == #id")
+    public void patch(@PathVariable long id, @Valid @RequestBody UserUpdateDTO userUpdateDTO) {
+        userService.patch(id, userUpdateDTO);
+    }
+
     /**
      * Deletes a user.
      * Only the user themselves can delete their own account.
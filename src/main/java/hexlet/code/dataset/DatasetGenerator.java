@@ -0,0 +1,250 @@
+package hexlet.code.dataset;
+
+import hexlet.code.component.DatasetProperties;
+import hexlet.code.model.TaskStatus;
+import hexlet.code.repository.TaskStatusRepository;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import net.datafaker.Faker;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * Fills the database with a synthetic dataset for performance work, when the {@code seed} profile is active.
+ * Assignees, labels and statuses follow Zipf distributions, so a few users and labels own most tasks,
+ * as in real trackers. Rows are written with PostgreSQL COPY when available and batched inserts otherwise,
+ * with IDs reserved from the entity sequences so the application keeps allocating IDs after the dataset.
+ * The same {@code dataset.*} settings always produce the same rows.
+ * Every user can sign in with the password {@value #PASSWORD}.
+ */
+@Slf4j
+@Component
+@Profile("seed")
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+public final class DatasetGenerator implements ApplicationRunner {
+
+    static final String PASSWORD = "password";
+
+    private static final int TEXT_POOL = 10_000;
+    private static final int DESCRIPTION_LENGTH = 255;
+    private static final int HISTORY_DAYS = 730;
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final DatasetProperties properties;
+    private final TaskStatusRepository taskStatusRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSource dataSource;
+    private final Dialect dialect;
+    private final long idAllocationSize;
+
+    /**
+     * Creates the generator.
+     *
+     * @param datasetProperties the dataset settings
+     * @param statusRepository the statuses the tasks are spread over
+     * @param encoder the encoder of the shared password
+     * @param jdbc the JDBC template used for batched inserts and sequences
+     * @param target the data source used for COPY
+     * @param entityManagerFactory the source of the SQL dialect
+     * @param environment the source of the sequence increment
+     */
+    public DatasetGenerator(DatasetProperties datasetProperties, TaskStatusRepository statusRepository,
+                            PasswordEncoder encoder, JdbcTemplate jdbc, DataSource target,
+                            EntityManagerFactory entityManagerFactory, Environment environment) {
+        this.properties = datasetProperties;
+        this.taskStatusRepository = statusRepository;
+        this.passwordEncoder = encoder;
+        this.jdbcTemplate = jdbc;
+        this.dataSource = target;
+        this.dialect = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect();
+        this.idAllocationSize = environment.getProperty("spring.flyway.placeholders.id_allocation_size",
+                Long.class, 50L);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws SQLException {
+        RowSink sink = properties.isCopy() && PostgresCopySink.supports(dataSource)
+                ? new PostgresCopySink(dataSource)
+                : new JdbcBatchSink(jdbcTemplate);
+        log.info("Generating dataset: seed={}, users={}, labels={}, tasks={}, skew={}, writer={}",
+                properties.getSeed(), properties.getUsers(), properties.getLabels(), properties.getTasks(),
+                properties.getSkew(), sink.getClass().getSimpleName());
+
+        SplittableRandom random = new SplittableRandom(properties.getSeed());
+        Faker faker = new Faker(Locale.ENGLISH, new Random(properties.getSeed()));
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        long started = System.nanoTime();
+
+        long firstUser = generateUsers(sink, faker, random, now);
+        long firstLabel = generateLabels(sink, faker, random, now);
+        long rows = properties.getUsers() + properties.getLabels()
+                + generateTasks(sink, faker, random, now, firstUser, firstLabel);
+
+        double seconds = (System.nanoTime() - started) / NANOS_PER_SECOND;
+        log.info("Generated {} rows in {} s ({} rows/s)",
+                rows, String.format("%.1f", seconds), Math.round(rows / seconds));
+    }
+
+    private long generateUsers(RowSink sink, Faker faker, SplittableRandom random, LocalDateTime now)
+            throws SQLException {
+        String digest = passwordEncoder.encode(PASSWORD);
+        long firstId = reserveIds("users_seq", properties.getUsers());
+        Batch batch = new Batch(sink, "users",
+                List.of("id", "first_name", "last_name", "email", "password_digest", "created_at", "updated_at"));
+        for (int i = 0; i < properties.getUsers(); i++) {
+            long id = firstId + i;
+            String firstName = faker.name().firstName();
+            String lastName = faker.name().lastName();
+            String email = (firstName + "." + lastName + "." + id + "@example.com").toLowerCase(Locale.ROOT);
+            LocalDateTime createdAt = past(random, now);
+            batch.add(id, firstName, lastName, email, digest, createdAt, createdAt);
+        }
+        batch.finish();
+        return firstId;
+    }
+
+    private long generateLabels(RowSink sink, Faker faker, SplittableRandom random, LocalDateTime now)
+            throws SQLException {
+        long firstId = reserveIds("labels_seq", properties.getLabels());
+        Batch batch = new Batch(sink, "labels", List.of("id", "name", "created_at"));
+        for (int i = 0; i < properties.getLabels(); i++) {
+            long id = firstId + i;
+            batch.add(id, faker.hacker().noun() + "-" + id, past(random, now));
+        }
+        batch.finish();
+        return firstId;
+    }
+
+    private long generateTasks(RowSink sink, Faker faker, SplittableRandom random, LocalDateTime now,
+                               long firstUser, long firstLabel) throws SQLException {
+        List<Long> statusIds = taskStatusRepository.findAll().stream().map(TaskStatus::getId).sorted().toList();
+        if (statusIds.isEmpty()) {
+            throw new IllegalStateException("No task statuses to assign; the data initializer must run first");
+        }
+        List<String> names = new ArrayList<>(TEXT_POOL);
+        List<String> descriptions = new ArrayList<>(TEXT_POOL);
+        for (int i = 0; i < TEXT_POOL; i++) {
+            names.add(faker.lorem().sentence(4));
+            descriptions.add(faker.lorem().maxLengthSentence(DESCRIPTION_LENGTH));
+        }
+        ZipfDistribution assignees = new ZipfDistribution(properties.getUsers(), properties.getSkew());
+        ZipfDistribution labels = new ZipfDistribution(properties.getLabels(), properties.getSkew());
+        ZipfDistribution statuses = new ZipfDistribution(statusIds.size(), properties.getSkew());
+
+        long firstId = reserveIds("tasks_seq", properties.getTasks());
+        Batch tasks = new Batch(sink, "tasks",
+                List.of("id", "name", "index", "description", "task_status_id", "assignee_id", "created_at"));
+        Batch taskLabels = new Batch(sink, "tasks_labels", List.of("task_id", "labels_id"), tasks);
+        Set<Long> picked = new HashSet<>();
+        for (int i = 0; i < properties.getTasks(); i++) {
+            long id = firstId + i;
+            Long assignee = properties.getUsers() == 0 ? null : firstUser + assignees.sample(random);
+            tasks.add(id, names.get(random.nextInt(TEXT_POOL)), random.nextInt(10_000),
+                    descriptions.get(random.nextInt(TEXT_POOL)), statusIds.get(statuses.sample(random)),
+                    assignee, past(random, now));
+
+            picked.clear();
+            int labelCount = properties.getLabels() == 0 ? 0 : random.nextInt(properties.getMaxLabelsPerTask() + 1);
+            for (int j = 0; j < labelCount; j++) {
+                long label = firstLabel + labels.sample(random);
+                if (picked.add(label)) {
+                    taskLabels.add(id, label);
+                }
+            }
+        }
+        tasks.finish();
+        taskLabels.finish();
+        return properties.getTasks() + taskLabels.total;
+    }
+
+    /**
+     * Reserves a contiguous range of IDs from an entity sequence.
+     * The sequence is moved past the range plus one allocation, so the blocks Hibernate fetches next
+     * cannot overlap the generated rows.
+     *
+     * @param sequence the name of the sequence
+     * @param count the number of IDs to reserve
+     * @return the first reserved ID
+     */
+    private long reserveIds(String sequence, long count) {
+        long first = jdbcTemplate.queryForObject(
+                dialect.getSequenceSupport().getSequenceNextValString(sequence), Long.class);
+        jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + (first + count + idAllocationSize));
+        return first;
+    }
+
+    private static LocalDateTime past(SplittableRandom random, LocalDateTime now) {
+        return now.minusSeconds(random.nextLong(HISTORY_DAYS * 86_400L));
+    }
+
+    /**
+     * Rows of one table, written whenever a batch fills up and timed for the report.
+     * A batch of a join table flushes the batch of the referenced table first, so foreign keys always resolve.
+     */
+    private final class Batch {
+        private final RowSink sink;
+        private final String table;
+        private final List<String> columns;
+        private final Batch referenced;
+        private final List<Object[]> rows = new ArrayList<>();
+        private final long started = System.nanoTime();
+        private long total;
+
+        Batch(RowSink rowSink, String tableName, List<String> tableColumns) {
+            this(rowSink, tableName, tableColumns, null);
+        }
+
+        Batch(RowSink rowSink, String tableName, List<String> tableColumns, Batch referencedBatch) {
+            this.sink = rowSink;
+            this.table = tableName;
+            this.columns = tableColumns;
+            this.referenced = referencedBatch;
+        }
+
+        void add(Object... row) throws SQLException {
+            rows.add(row);
+            if (rows.size() >= properties.getBatchSize()) {
+                flush();
+            }
+        }
+
+        void flush() throws SQLException {
+            if (referenced != null) {
+                referenced.flush();
+            }
+            if (!rows.isEmpty()) {
+                sink.write(table, columns, rows);
+                total += rows.size();
+                rows.clear();
+            }
+        }
+
+        void finish() throws SQLException {
+            flush();
+            double seconds = (System.nanoTime() - started) / NANOS_PER_SECOND;
+            log.info("Seeded {} rows into {} in {} s ({} rows/s)",
+                    total, table, String.format("%.1f", seconds), Math.round(total / seconds));
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package hexlet.code.dataset;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Writes rows with one batched INSERT per call.
+ * With {@code reWriteBatchedInserts} on PostgreSQL the driver folds the batch into multi-row inserts.
+ */
+final class JdbcBatchSink implements RowSink {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    JdbcBatchSink(JdbcTemplate jdbc) {
+        this.jdbcTemplate = jdbc;
+    }
+
+    @Override
+    public void write(String table, List<String> columns, List<Object[]> rows) {
+        String sql = "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES ("
+                + String.join(", ", Collections.nCopies(columns.size(), "?")) + ")";
+        jdbcTemplate.batchUpdate(sql, rows);
+    }
+}
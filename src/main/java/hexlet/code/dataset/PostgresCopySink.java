@@ -0,0 +1,65 @@
+package hexlet.code.dataset;
+
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Writes rows with PostgreSQL {@code COPY ... FROM STDIN} in CSV format,
+ * which skips statement parsing and per-row protocol overhead entirely.
+ */
+final class PostgresCopySink implements RowSink {
+
+    private final DataSource dataSource;
+
+    PostgresCopySink(DataSource target) {
+        this.dataSource = target;
+    }
+
+    static boolean supports(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            return connection.isWrapperFor(PGConnection.class);
+        }
+    }
+
+    @Override
+    public void write(String table, List<String> columns, List<Object[]> rows) throws SQLException {
+        StringBuilder csv = new StringBuilder();
+        for (Object[] row : rows) {
+            for (int i = 0; i < row.length; i++) {
+                if (i > 0) {
+                    csv.append(',');
+                }
+                appendValue(csv, row[i]);
+            }
+            csv.append('\n');
+        }
+
+        String sql = "COPY " + table + " (" + String.join(", ", columns) + ") FROM STDIN (FORMAT csv)";
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sql, new StringReader(csv.toString()));
+        } catch (IOException e) {
+            throw new SQLException("COPY into " + table + " failed", e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    private static void appendValue(StringBuilder csv, Object value) {
+        if (value == null) {
+            return;
+        }
+        if (value instanceof String text) {
+            csv.append('"').append(text.replace("\"", "\"\"")).append('"');
+        } else {
+            csv.append(value);
+        }
+    }
+}
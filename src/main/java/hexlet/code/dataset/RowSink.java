@@ -0,0 +1,20 @@
+package hexlet.code.dataset;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Bulk writer of generated rows.
+ */
+interface RowSink {
+
+    /**
+     * Writes rows to a table in one round trip.
+     *
+     * @param table the table
+     * @param columns the columns, in the order of the row values
+     * @param rows the rows
+     * @throws SQLException if the rows cannot be written
+     */
+    void write(String table, List<String> columns, List<Object[]> rows) throws SQLException;
+}
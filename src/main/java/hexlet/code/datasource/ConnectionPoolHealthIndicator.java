@@ -0,0 +1,135 @@
+package hexlet.code.datasource;
+
+import hexlet.code.component.PoolHealthProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Readiness check of the connection pools, based on the Hikari meters of every pool in the registry
+ * (the primary and, with routing, the replicas). A pool is saturated when the connections acquired within
+ * the window waited longer than the threshold on average, when acquisitions timed out, or when threads
+ * are waiting and none got a connection. A saturated pool takes the node out of service, so the
+ * load balancer drains it before requests start hitting the pool timeout.
+ * The meters are sampled on a fixed schedule and a check compares the current values with the sample
+ * taken at the start of the window, so how often the health endpoint is polled does not change the result.
+ */
+@Component
+public final class ConnectionPoolHealthIndicator implements HealthIndicator {
+
+    private static final String POOL_TAG = "pool";
+    private static final Sample ZERO = new Sample(0, 0, 0, 0);
+
+    private final MeterRegistry registry;
+    private final PoolHealthProperties properties;
+    private final Map<String, Deque<Sample>> history = new ConcurrentHashMap<>();
+
+    private record Sample(long at, long acquired, double waitNanos, double timeouts) {
+    }
+
+    /**
+     * Creates the indicator.
+     *
+     * @param meterRegistry the registry the pool meters are registered in
+     * @param healthProperties the saturation settings
+     */
+    public ConnectionPoolHealthIndicator(MeterRegistry meterRegistry, PoolHealthProperties healthProperties) {
+        this.registry = meterRegistry;
+        this.properties = healthProperties;
+    }
+
+    /**
+     * Records the current meter values of every pool and drops the samples that fell out of the window.
+     */
+    @Scheduled(fixedRateString = "${pool-health.sample-interval:10s}")
+    public void sample() {
+        sample(System.nanoTime());
+    }
+
+    void sample(long now) {
+        long windowStart = now - properties.getWindow().toNanos();
+        for (Timer acquire : registry.find("hikaricp.connections.acquire").timers()) {
+            String pool = acquire.getId().getTag(POOL_TAG);
+            Deque<Sample> samples = history.computeIfAbsent(pool, key -> new ArrayDeque<>());
+            synchronized (samples) {
+                samples.addLast(read(acquire, now));
+                // Keep the newest sample taken at or before the window start as the baseline.
+                while (samples.size() > 1) {
+                    Sample oldest = samples.pollFirst();
+                    if (samples.peekFirst().at() > windowStart) {
+                        samples.addFirst(oldest);
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public Health health() {
+        Health.Builder builder = Health.up();
+        boolean saturated = false;
+        for (Timer acquire : registry.find("hikaricp.connections.acquire").timers()) {
+            String pool = acquire.getId().getTag(POOL_TAG);
+            Sample current = read(acquire, 0);
+            Sample baseline = baseline(pool);
+
+            long acquired = current.acquired() - baseline.acquired();
+            double meanWaitMillis = acquired > 0
+                    ? (current.waitNanos() - baseline.waitNanos()) / acquired / TimeUnit.MILLISECONDS.toNanos(1)
+                    : 0;
+            double timeouts = current.timeouts() - baseline.timeouts();
+            double pending = gauge("hikaricp.connections.pending", pool);
+            boolean poolSaturated = meanWaitMillis > properties.getAcquireWaitThreshold().toMillis()
+                    || timeouts > 0
+                    || pending > 0 && acquired == 0;
+            saturated |= poolSaturated;
+
+            Map<String, Object> details = new LinkedHashMap<>();
+            details.put("active", gauge("hikaricp.connections.active", pool));
+            details.put("idle", gauge("hikaricp.connections.idle", pool));
+            details.put("pending", pending);
+            details.put("meanAcquireWaitMillis", meanWaitMillis);
+            details.put("timeouts", timeouts);
+            details.put("saturated", poolSaturated);
+            builder.withDetail(pool, details);
+        }
+        return saturated ? builder.outOfService().build() : builder.build();
+    }
+
+    private Sample baseline(String pool) {
+        Deque<Sample> samples = history.get(pool);
+        if (samples == null) {
+            return ZERO;
+        }
+        synchronized (samples) {
+            Sample oldest = samples.peekFirst();
+            return oldest == null ? ZERO : oldest;
+        }
+    }
+
+    private Sample read(Timer acquire, long now) {
+        Counter timeoutCounter = registry.find("hikaricp.connections.timeout")
+                .tag(POOL_TAG, acquire.getId().getTag(POOL_TAG))
+                .counter();
+        return new Sample(now, acquire.count(), acquire.totalTime(TimeUnit.NANOSECONDS),
+                timeoutCounter == null ? 0 : timeoutCounter.count());
+    }
+
+    private double gauge(String name, String pool) {
+        Gauge gauge = registry.find(name).tag(POOL_TAG, pool).gauge();
+        return gauge == null ? 0 : gauge.value();
+    }
+}
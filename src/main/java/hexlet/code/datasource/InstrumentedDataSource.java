@@ -0,0 +1,224 @@
+package hexlet.code.datasource;
+
+import hexlet.code.metrics.RequestTiming;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+/**
+ * Data source proxy that times every statement executed through its connections.
+ * A query is timed from execution until its result set is closed, counting only the time spent
+ * inside the driver, so row hydration between {@code next()} calls does not count against the database.
+ * Only connection and statement calls are intercepted, so wrapping a lazy connection proxy
+ * does not fetch a physical connection any earlier.
+ * Statement time is also added to the database phase of the current {@link RequestTiming}.
+ */
+public final class InstrumentedDataSource extends DelegatingDataSource {
+
+    private final Supplier<SqlStatementMetrics> metrics;
+
+    /**
+     * Wraps the given data source.
+     *
+     * @param target the data source to instrument
+     * @param statementMetrics supplies the recorder, resolved on first use
+     */
+    public InstrumentedDataSource(DataSource target, Supplier<SqlStatementMetrics> statementMetrics) {
+        super(target);
+        this.metrics = statementMetrics;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return connection(super.getConnection(username, password));
+    }
+
+    private Connection connection(Connection target) {
+        return proxy(Connection.class, (proxy, method, args) -> {
+            Object result = call(target, method, args);
+            return switch (method.getName()) {
+                case "prepareStatement", "prepareCall" -> proxy(method.getReturnType(),
+                        new StatementHandler((Statement) result, (String) args[0]));
+                case "createStatement" -> proxy(Statement.class, new StatementHandler((Statement) result, null));
+                default -> result;
+            };
+        });
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, handler));
+    }
+
+    private static Object call(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * One execution of a statement, recorded once its result is consumed.
+     * The parameters are the statement's own map, copied only if they change before the execution is recorded,
+     * so the common execution costs no copy; they are only read for statements over the slow threshold.
+     */
+    private final class Execution {
+        private final String sql;
+        private Map<Integer, Object> parameters;
+        private long nanos;
+        private long rows = -1;
+        private boolean recorded;
+
+        private Execution(String statementSql, Map<Integer, Object> statementParameters) {
+            this.sql = statementSql;
+            this.parameters = statementParameters;
+        }
+
+        private void finish(boolean failed) {
+            if (!recorded) {
+                recorded = true;
+                metrics.get().record(sql, parameters, nanos, rows, failed);
+                RequestTiming.recordStatement(nanos);
+            }
+        }
+    }
+
+    /**
+     * Captures bind parameters and times the execute calls of a statement.
+     */
+    private final class StatementHandler implements InvocationHandler {
+        private final Statement target;
+        private final String sql;
+        private final Map<Integer, Object> parameters = new TreeMap<>();
+        private Execution pending;
+
+        private StatementHandler(Statement statement, String statementSql) {
+            this.target = statement;
+            this.sql = statementSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                return execute(method, args);
+            }
+            if (name.startsWith("set") && args != null && args.length > 1 && args[0] instanceof Integer index) {
+                detachPendingParameters();
+                parameters.put(index, "setNull".equals(name) ? null : args[1]);
+            } else if ("clearParameters".equals(name)) {
+                detachPendingParameters();
+                parameters.clear();
+            } else if ("close".equals(name)) {
+                finishPending();
+            }
+            Object result = call(target, method, args);
+            if ("getResultSet".equals(name) && result instanceof ResultSet resultSet && pending != null) {
+                return resultSet(resultSet, pending);
+            }
+            return result;
+        }
+
+        private Object execute(Method method, Object[] args) throws Throwable {
+            finishPending();
+            String statementSql = args != null && args.length > 0 && args[0] instanceof String text ? text : sql;
+            Execution execution = new Execution(statementSql, parameters);
+            long start = System.nanoTime();
+            Object result;
+            try {
+                result = call(target, method, args);
+            } catch (Throwable e) {
+                execution.nanos = System.nanoTime() - start;
+                execution.finish(true);
+                throw e;
+            }
+            execution.nanos = System.nanoTime() - start;
+
+            if (result instanceof ResultSet resultSet) {
+                execution.rows = 0;
+                pending = execution;
+                return resultSet(resultSet, execution);
+            } else if (result instanceof Boolean hasResultSet && hasResultSet) {
+                execution.rows = 0;
+                pending = execution;
+            } else {
+                execution.rows = affectedRows(result);
+                execution.finish(false);
+            }
+            return result;
+        }
+
+        private void detachPendingParameters() {
+            if (pending != null && pending.parameters == parameters) {
+                pending.parameters = new TreeMap<>(parameters);
+            }
+        }
+
+        private void finishPending() {
+            if (pending != null) {
+                pending.finish(false);
+                pending = null;
+            }
+        }
+
+        private static long affectedRows(Object result) {
+            long rows = -1;
+            if (result instanceof Number count) {
+                rows = count.longValue();
+            } else if (result instanceof int[] counts) {
+                rows = 0;
+                for (int count : counts) {
+                    rows += Math.max(count, 0);
+                }
+            } else if (result instanceof long[] counts) {
+                rows = 0;
+                for (long count : counts) {
+                    rows += Math.max(count, 0);
+                }
+            }
+            return rows;
+        }
+
+        private ResultSet resultSet(ResultSet resultSet, Execution execution) {
+            return proxy(ResultSet.class, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "next" -> {
+                        long start = System.nanoTime();
+                        Object hasRow = call(resultSet, method, args);
+                        execution.nanos += System.nanoTime() - start;
+                        if (Boolean.TRUE.equals(hasRow)) {
+                            execution.rows++;
+                        }
+                        return hasRow;
+                    }
+                    case "close" -> {
+                        try {
+                            return call(resultSet, method, args);
+                        } finally {
+                            execution.finish(false);
+                        }
+                    }
+                    default -> {
+                        return call(resultSet, method, args);
+                    }
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package hexlet.code.datasource;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+/**
+ * Routes read-only transactions to replica pools and everything else to the primary.
+ * Replicas are picked round-robin among those that passed the last health check; when none is healthy,
+ * reads fall back to the primary. After a write, the reads of the same user stay on the primary
+ * for the sticky window, so the user reads their own writes despite replication lag.
+ * Must be used behind a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy},
+ * so that the route is chosen once the transaction's read-only flag is known.
+ */
+public final class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    /**
+     * Lookup key of the primary.
+     */
+    public static final String PRIMARY = "primary";
+
+    private final List<Replica> replicas;
+    private final long stickyNanos;
+    private final int healthCheckTimeoutSeconds;
+    private final Map<String, Long> lastWrites = new ConcurrentHashMap<>();
+    private final AtomicInteger next = new AtomicInteger();
+
+    /**
+     * Creates the routing data source.
+     *
+     * @param primary the primary pool
+     * @param replicaPools the replica pools, owned by this data source and closed with it
+     * @param stickyWindow how long the reads of a user stay on the primary after their write
+     * @param healthCheckTimeout timeout of the replica connection validation
+     */
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicaPools,
+                                    Duration stickyWindow, Duration healthCheckTimeout) {
+        this.replicas = IntStream.range(0, replicaPools.size())
+                .mapToObj(i -> new Replica("replica-" + i, replicaPools.get(i)))
+                .toList();
+        this.stickyNanos = stickyWindow.toNanos();
+        this.healthCheckTimeoutSeconds = (int) Math.max(1, healthCheckTimeout.toSeconds());
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        replicas.forEach(replica -> targets.put(replica.key, replica.dataSource));
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String user = currentUser();
+        long now = System.nanoTime();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (user != null && stickyNanos > 0) {
+                lastWrites.put(user, now);
+            }
+            return PRIMARY;
+        }
+        if (user != null) {
+            Long lastWrite = lastWrites.get(user);
+            if (lastWrite != null && now - lastWrite < stickyNanos) {
+                return PRIMARY;
+            }
+        }
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(1, size));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.healthy) {
+                return replica.key;
+            }
+        }
+        return PRIMARY;
+    }
+
+    /**
+     * Validates a connection of every replica and drops expired stickiness entries.
+     */
+    @Scheduled(fixedDelayString = "${datasource-routing.health-check-interval:10s}")
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection()) {
+                replica.healthy = connection.isValid(healthCheckTimeoutSeconds);
+            } catch (SQLException | RuntimeException e) {
+                replica.healthy = false;
+            }
+        }
+        long now = System.nanoTime();
+        lastWrites.values().removeIf(lastWrite -> now - lastWrite >= stickyNanos);
+    }
+
+    /**
+     * Number of replicas that passed the last health check.
+     *
+     * @return healthy replica count
+     */
+    public int getHealthyReplicas() {
+        return (int) replicas.stream().filter(replica -> replica.healthy).count();
+    }
+
+    /**
+     * The replica pools, in configuration order.
+     *
+     * @return the replica data sources
+     */
+    public List<DataSource> getReplicaDataSources() {
+        return replicas.stream().map(replica -> replica.dataSource).toList();
+    }
+
+    /**
+     * Closes the replica pools on context shutdown; the primary pool is a bean of its own.
+     *
+     * @throws SQLException if a replica cannot be unwrapped to its pool
+     */
+    @Override
+    public void destroy() throws SQLException {
+        for (Replica replica : replicas) {
+            if (replica.dataSource.isWrapperFor(AutoCloseable.class)) {
+                try {
+                    replica.dataSource.unwrap(AutoCloseable.class).close();
+                } catch (Exception e) {
+                    logger.warn("Failed to close " + replica.key, e);
+                }
+            }
+        }
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null
+                || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    private static final class Replica {
+        private final String key;
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+
+        Replica(String lookupKey, DataSource pool) {
+            this.key = lookupKey;
+            this.dataSource = pool;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package hexlet.code.datasource;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Reduces SQL text to its shape: literals become {@code ?}, parameter lists of any length become one
+ * {@code (?)} and whitespace is collapsed, so statements that differ only in values share their metrics.
+ */
+public final class SqlShapes {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern STRING = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER = Pattern.compile("(?<![\\w.])\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final int MAX_LENGTH = 1000;
+
+    private SqlShapes() {
+    }
+
+    /**
+     * Normalizes a statement to its shape.
+     *
+     * @param sql the statement as sent to the driver
+     * @return the shape of the statement
+     */
+    public static String shape(String sql) {
+        String shape = WHITESPACE.matcher(sql.strip()).replaceAll(" ");
+        shape = STRING.matcher(shape).replaceAll("?");
+        shape = NUMBER.matcher(shape).replaceAll("?");
+        shape = LIST.matcher(shape).replaceAll("(?)");
+        return shape.length() > MAX_LENGTH ? shape.substring(0, MAX_LENGTH) : shape;
+    }
+
+    /**
+     * Classifies a statement by its leading keyword.
+     *
+     * @param shape the statement shape
+     * @return one of select, insert, update, delete or other
+     */
+    public static String operation(String shape) {
+        int end = shape.indexOf(' ');
+        String keyword = (end < 0 ? shape : shape.substring(0, end)).toLowerCase(Locale.ROOT);
+        return switch (keyword) {
+            case "select", "with" -> "select";
+            case "insert", "update", "delete" -> keyword;
+            default -> "other";
+        };
+    }
+}
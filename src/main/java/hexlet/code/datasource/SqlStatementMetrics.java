@@ -0,0 +1,149 @@
+package hexlet.code.datasource;
+
+import hexlet.code.component.SqlInstrumentationProperties;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Records executed statements: a latency timer and a rows histogram per statement shape,
+ * and a log line for statements over the slow threshold.
+ */
+@Slf4j
+public final class SqlStatementMetrics {
+
+    private static final String OTHER = "other";
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+    private final MeterRegistry registry;
+    private final SqlInstrumentationProperties properties;
+    private final Map<String, String> shapes = new ConcurrentHashMap<>();
+    private final Map<String, Meters> meters = new ConcurrentHashMap<>();
+
+    private record Meters(String tag, String operation, Timer succeeded, DistributionSummary rows) {
+    }
+
+    /**
+     * Creates the recorder.
+     *
+     * @param meterRegistry the registry the meters are registered in
+     * @param instrumentationProperties the instrumentation settings
+     */
+    public SqlStatementMetrics(MeterRegistry meterRegistry, SqlInstrumentationProperties instrumentationProperties) {
+        this.registry = meterRegistry;
+        this.properties = instrumentationProperties;
+    }
+
+    /**
+     * Records one executed statement.
+     *
+     * @param sql the statement as sent to the driver
+     * @param parameters the bind parameters by index
+     * @param nanos time spent in the driver, including fetching rows
+     * @param rows rows returned or affected, negative if unknown
+     * @param failed whether the statement threw
+     */
+    public void record(String sql, Map<Integer, Object> parameters, long nanos, long rows, boolean failed) {
+        Meters statementMeters = meters(sql);
+        Timer timer = failed
+                ? timer(statementMeters.tag(), statementMeters.operation(), "error")
+                : statementMeters.succeeded();
+        timer.record(nanos, TimeUnit.NANOSECONDS);
+        if (rows >= 0) {
+            statementMeters.rows().record(rows);
+        }
+        if (nanos >= properties.getSlowThreshold().toNanos()) {
+            log.warn("Slow SQL: {} ms, rows={}, failed={}, caller={}, sql={}, parameters={}",
+                    TimeUnit.NANOSECONDS.toMillis(nanos), rows, failed, caller(), sql, describe(parameters));
+        }
+    }
+
+    private Meters meters(String sql) {
+        String shape = shapes.get(sql);
+        if (shape == null) {
+            shape = SqlShapes.shape(sql);
+            if (shapes.size() < properties.getMaxStatements() * 10) {
+                shapes.put(sql, shape);
+            }
+        }
+        Meters existing = meters.get(shape);
+        if (existing != null) {
+            return existing;
+        }
+        if (meters.size() >= properties.getMaxStatements()) {
+            return meters.computeIfAbsent(OTHER, this::register);
+        }
+        return meters.computeIfAbsent(shape, this::register);
+    }
+
+    private Meters register(String shape) {
+        String operation = OTHER.equals(shape) ? OTHER : SqlShapes.operation(shape);
+        String tag = tag(shape);
+        return new Meters(tag, operation, timer(tag, operation, "success"),
+                DistributionSummary.builder("db.sql.rows")
+                        .description("Rows returned or affected per statement")
+                        .tags("statement", tag, "operation", operation)
+                        .publishPercentiles(PERCENTILES)
+                        .register(registry));
+    }
+
+    private Timer timer(String tag, String operation, String outcome) {
+        Timer.Builder builder = Timer.builder("db.sql.statement")
+                .description("Statement execution time, including fetching the result")
+                .tags("statement", tag, "operation", operation, "outcome", outcome);
+        if (properties.isPercentileHistogram()) {
+            builder.publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofMillis(1))
+                    .maximumExpectedValue(Duration.ofSeconds(10));
+        } else {
+            builder.publishPercentiles(PERCENTILES);
+        }
+        return builder.register(registry);
+    }
+
+    /**
+     * The statement tag of a shape: the shape itself, or when longer than the configured length,
+     * its beginning followed by a hash of the whole shape, so long statements stay distinct.
+     *
+     * @param shape the statement shape
+     * @return the tag value
+     */
+    private String tag(String shape) {
+        int length = properties.getStatementTagLength();
+        if (shape.length() <= length) {
+            return shape;
+        }
+        String hash = String.format("~%08x", shape.hashCode());
+        return shape.substring(0, Math.max(0, length - hash.length())) + hash;
+    }
+
+    private String caller() {
+        String prefix = properties.getCallerPackage() + ".";
+        return STACK_WALKER.walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith(prefix))
+                .findFirst()
+                .map(frame -> frame.getClassName().substring(prefix.length()) + "." + frame.getMethodName())
+                .orElse("unknown"));
+    }
+
+    private String describe(Map<Integer, Object> parameters) {
+        return parameters.entrySet().stream()
+                .map(entry -> entry.getKey() + "=" + describe(entry.getValue()))
+                .collect(Collectors.joining(", ", "[", "]"));
+    }
+
+    private String describe(Object value) {
+        if (value == null) {
+            return "null";
+        }
+        return properties.isRedactParameters() ? "<" + value.getClass().getSimpleName() + ">" : value.toString();
+    }
+}
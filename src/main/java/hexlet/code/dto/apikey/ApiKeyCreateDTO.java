@@ -0,0 +1,14 @@
+package hexlet.code.dto.apikey;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class ApiKeyCreateDTO {
+    @NotNull
+    @Size(min = 1, max = 100)
+    private String name;
+}
@@ -0,0 +1,20 @@
+package hexlet.code.dto.apikey;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+public class ApiKeyShowDTO {
+    private long id;
+    private String name;
+    private String prefix;
+    private LocalDateTime createdAt;
+
+    /**
+     * Raw key value; only filled in the response to key creation.
+     */
+    private String key;
+}
@@ -0,0 +1,30 @@
+package hexlet.code.dto.label;
+
+import hexlet.code.dto.task.TaskParamsDTO;
+import jakarta.validation.constraints.AssertTrue;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Set;
+
+@Getter
+@Setter
+public class LabelTasksDTO {
+    private Set<Long> taskIds;
+
+    private TaskParamsDTO filter;
+
+    /**
+     * The tasks are selected either by IDs or by a filter with at least one criterion;
+     * a filter without criteria would select every task.
+     *
+     * @return true if IDs or a filter with criteria are given
+     */
+    @AssertTrue(message = "Either taskIds or a filter with at least one criterion must be given")
+    public boolean isSelectionGiven() {
+        return taskIds != null || filter != null && (filter.getTitleCont() != null && !filter.getTitleCont().isBlank()
+                || filter.getAssigneeId() != null
+                || filter.getStatus() != null
+                || filter.getLabelId() != null);
+    }
+}
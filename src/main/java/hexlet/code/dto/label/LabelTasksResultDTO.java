@@ -0,0 +1,11 @@
+package hexlet.code.dto.label;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class LabelTasksResultDTO {
+    private int matched;
+    private int changed;
+}
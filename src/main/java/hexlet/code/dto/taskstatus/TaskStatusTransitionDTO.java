@@ -0,0 +1,12 @@
+package hexlet.code.dto.taskstatus;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class TaskStatusTransitionDTO {
+    private String from;
+    private String to;
+    private int count;
+}
@@ -0,0 +1,15 @@
+package hexlet.code.event;
+
+import java.util.List;
+
+/**
+ * Published once the merge of a deleted label into another one is committed.
+ * The task links are changed with bulk statements, bypassing entity listeners,
+ * so caches and counters that track task labels should listen for this event instead.
+ *
+ * @param from the ID of the deleted label
+ * @param into the ID of the label the tasks have now
+ * @param taskIds the IDs of the tasks that had the deleted label
+ */
+public record TaskLabelsMergedEvent(long from, long into, List<Long> taskIds) {
+}
@@ -0,0 +1,15 @@
+package hexlet.code.event;
+
+import java.util.List;
+
+/**
+ * Published once tasks moved from one status to another in bulk are committed.
+ * The tasks are changed with a bulk UPDATE, bypassing entity listeners,
+ * so caches and counters that track tasks should listen for this event instead.
+ *
+ * @param from the slug of the status the tasks left
+ * @param to the slug of the status the tasks moved to
+ * @param taskIds the IDs of the moved tasks
+ */
+public record TasksTransitionedEvent(String from, String to, List<Long> taskIds) {
+}
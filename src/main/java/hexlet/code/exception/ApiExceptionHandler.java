@@ -0,0 +1,38 @@
+package hexlet.code.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * Translates domain exceptions of the API into problem details responses.
+ */
+@RestControllerAdvice
+public final class ApiExceptionHandler {
+
+    /**
+     * Answers requests referring to missing entities.
+     *
+     * @param e the exception listing the missing references
+     * @return 422 problem details with a {@code missing} property
+     */
+    @ExceptionHandler(UnresolvedReferencesException.class)
+    public ProblemDetail handleUnresolvedReferences(UnresolvedReferencesException e) {
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(HttpStatus.UNPROCESSABLE_ENTITY,
+                "The request refers to entities that do not exist");
+        problem.setProperty("missing", e.getMissing());
+        return problem;
+    }
+
+    /**
+     * Answers deletions of entities that are still referred to.
+     *
+     * @param e the exception describing the conflict
+     * @return 409 problem details
+     */
+    @ExceptionHandler(EntityInUseException.class)
+    public ProblemDetail handleEntityInUse(EntityInUseException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, e.getMessage());
+    }
+}
@@ -0,0 +1,17 @@
+package hexlet.code.exception;
+
+/**
+ * Thrown when an entity cannot be deleted because other entities still refer to it.
+ * Answered with 409 Conflict.
+ */
+public final class EntityInUseException extends RuntimeException {
+
+    /**
+     * Creates the exception.
+     *
+     * @param message the description of the conflict
+     */
+    public EntityInUseException(String message) {
+        super(message);
+    }
+}
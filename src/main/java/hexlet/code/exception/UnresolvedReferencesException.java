@@ -0,0 +1,34 @@
+package hexlet.code.exception;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Thrown when a request refers to entities that do not exist.
+ * Answered with 422 Unprocessable Entity, listing the missing references by request field.
+ */
+public final class UnresolvedReferencesException extends RuntimeException {
+
+    private final transient Map<String, Collection<?>> missing;
+
+    /**
+     * Creates the exception.
+     *
+     * @param missingReferences the values that could not be resolved, by request field, in the order to report
+     */
+    public UnresolvedReferencesException(Map<String, Collection<?>> missingReferences) {
+        super("Unresolved references: " + missingReferences);
+        this.missing = Collections.unmodifiableMap(new LinkedHashMap<>(missingReferences));
+    }
+
+    /**
+     * The references that could not be resolved.
+     *
+     * @return missing values by request field
+     */
+    public Map<String, Collection<?>> getMissing() {
+        return missing;
+    }
+}
@@ -0,0 +1,148 @@
+package hexlet.code.jfr;
+
+import hexlet.code.component.FlightRecordingProperties;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Actuator endpoint running one time-boxed JDK Flight Recorder recording at a time.
+ * {@code POST /actuator/jfr} starts a recording with the tuned settings of {@link FlightRecordingProperties},
+ * {@code DELETE /actuator/jfr} stops it early, {@code GET /actuator/jfr} reports its state and
+ * {@code GET /actuator/jfr/{id}} downloads it, as a snapshot while it is still running.
+ * Recordings can hold request data, so the endpoint requires the scope of
+ * {@link FlightRecordingProperties#getScope()}, which only the configured operators get.
+ */
+@Slf4j
+@Component
+@Endpoint(id = "jfr")
+public final class FlightRecordingEndpoint {
+
+    private final FlightRecordingProperties properties;
+    private Recording recording;
+
+    /**
+     * Creates the endpoint.
+     *
+     * @param recordingProperties the recording limits and settings
+     */
+    public FlightRecordingEndpoint(FlightRecordingProperties recordingProperties) {
+        this.properties = recordingProperties;
+    }
+
+    /**
+     * Reports the current or last recording.
+     *
+     * @return the recording state
+     */
+    @ReadOperation
+    public synchronized Map<String, Object> status() {
+        return describe();
+    }
+
+    /**
+     * Starts a recording, replacing the previous one.
+     *
+     * @param duration how long to record, capped at the configured maximum
+     * @return the recording state
+     * @throws IOException if the JFR configuration cannot be read
+     * @throws ParseException if the JFR configuration is malformed
+     */
+    @WriteOperation
+    public synchronized Map<String, Object> start(@Nullable Duration duration) throws IOException, ParseException {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            throw new InvalidEndpointRequestException("Recording " + recording.getId() + " is already running",
+                    "A recording is already running");
+        }
+        if (recording != null) {
+            recording.close();
+        }
+
+        Map<String, String> settings = new HashMap<>(Configuration.getConfiguration(properties.getConfiguration())
+                .getSettings());
+        settings.putAll(properties.getSettings());
+        Duration requested = duration != null ? duration : properties.getDefaultDuration();
+        recording = new Recording(settings);
+        recording.setName("hexlet-" + System.currentTimeMillis());
+        recording.setDuration(requested.compareTo(properties.getMaxDuration()) > 0
+                ? properties.getMaxDuration()
+                : requested);
+        recording.setMaxSize(properties.getMaxSize().toBytes());
+        recording.setToDisk(true);
+        recording.start();
+        log.info("Started flight recording {} for {}", recording.getId(), recording.getDuration());
+        return describe();
+    }
+
+    /**
+     * Stops the running recording, keeping it for download.
+     *
+     * @return the recording state
+     */
+    @DeleteOperation
+    public synchronized Map<String, Object> stop() {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+            log.info("Stopped flight recording {}", recording.getId());
+        }
+        return describe();
+    }
+
+    /**
+     * Downloads the recording with the given ID.
+     * The recording is dumped to a temporary file that is deleted once the response has been streamed.
+     *
+     * @param id the recording ID
+     * @return the recording data, or {@code null} if there is no such recording
+     * @throws IOException if the recording cannot be written
+     */
+    @ReadOperation(produces = "application/octet-stream")
+    public synchronized Resource download(@Selector long id) throws IOException {
+        if (recording == null || recording.getId() != id || recording.getState() == RecordingState.NEW) {
+            return null;
+        }
+        Path file = Files.createTempFile("hexlet-" + id + "-", ".jfr");
+        try {
+            recording.dump(file);
+            return new InputStreamResource(Files.newInputStream(file, StandardOpenOption.DELETE_ON_CLOSE));
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+    }
+
+    private Map<String, Object> describe() {
+        Map<String, Object> state = new LinkedHashMap<>();
+        if (recording == null) {
+            state.put("state", "NONE");
+            return state;
+        }
+        state.put("id", recording.getId());
+        state.put("state", recording.getState().name());
+        state.put("startTime", recording.getStartTime());
+        state.put("duration", recording.getDuration());
+        state.put("size", recording.getSize());
+        return state;
+    }
+}
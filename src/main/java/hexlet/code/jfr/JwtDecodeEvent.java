@@ -0,0 +1,24 @@
+package hexlet.code.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+/**
+ * One bearer token decoded and verified.
+ */
+@Name("hexlet.JwtDecode")
+@Label("JWT Decode")
+@Category({"Hexlet", "Security"})
+@Description("Parsing and signature verification of a bearer token")
+@StackTrace(false)
+@Setter
+public final class JwtDecodeEvent extends Event {
+
+    @Label("Valid")
+    private boolean valid;
+}
@@ -0,0 +1,27 @@
+package hexlet.code.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+/**
+ * One call of a mapper from outside the mapper layer.
+ */
+@Name("hexlet.MapperCall")
+@Label("Mapper Call")
+@Category({"Hexlet", "Mapping"})
+@Description("Call of a mapper method; calls between mappers are part of the outer call")
+@StackTrace(false)
+@Setter
+public final class MapperCallEvent extends Event {
+
+    @Label("Mapper")
+    private String mapper;
+
+    @Label("Method")
+    private String method;
+}
@@ -0,0 +1,27 @@
+package hexlet.code.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+/**
+ * One password hashed or checked against its digest.
+ */
+@Name("hexlet.PasswordHash")
+@Label("Password Hash")
+@Category({"Hexlet", "Security"})
+@Description("Hashing a password, or checking one against a stored digest")
+@StackTrace(false)
+@Setter
+public final class PasswordHashEvent extends Event {
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Matched")
+    private boolean matched;
+}
@@ -0,0 +1,35 @@
+package hexlet.code.jfr;
+
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+/**
+ * Decoder that emits a {@link JwtDecodeEvent} per token.
+ */
+public final class RecordingJwtDecoder implements JwtDecoder {
+
+    private final JwtDecoder delegate;
+
+    /**
+     * Wraps the given decoder.
+     *
+     * @param target the decoder verifying the tokens
+     */
+    public RecordingJwtDecoder(JwtDecoder target) {
+        this.delegate = target;
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        JwtDecodeEvent event = new JwtDecodeEvent();
+        event.begin();
+        try {
+            Jwt jwt = delegate.decode(token);
+            event.setValid(true);
+            return jwt;
+        } finally {
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package hexlet.code.jfr;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Password encoder that emits a {@link PasswordHashEvent} per hash or check.
+ */
+public final class RecordingPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+
+    /**
+     * Wraps the given encoder.
+     *
+     * @param target the encoder doing the hashing
+     */
+    public RecordingPasswordEncoder(PasswordEncoder target) {
+        this.delegate = target;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        PasswordHashEvent event = new PasswordHashEvent();
+        event.begin();
+        try {
+            return delegate.encode(rawPassword);
+        } finally {
+            event.setOperation("encode");
+            event.commit();
+        }
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        PasswordHashEvent event = new PasswordHashEvent();
+        event.begin();
+        boolean matched = false;
+        try {
+            matched = delegate.matches(rawPassword, encodedPassword);
+            return matched;
+        } finally {
+            event.setOperation("matches");
+            event.setMatched(matched);
+            event.commit();
+        }
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
@@ -0,0 +1,30 @@
+package hexlet.code.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+/**
+ * One call of a public service method.
+ */
+@Name("hexlet.ServiceCall")
+@Label("Service Call")
+@Category({"Hexlet", "Service"})
+@Description("Call of a public service method, including its transaction")
+@StackTrace(false)
+@Setter
+public final class ServiceCallEvent extends Event {
+
+    @Label("Service")
+    private String service;
+
+    @Label("Method")
+    private String method;
+
+    @Label("Exception")
+    private String exception;
+}
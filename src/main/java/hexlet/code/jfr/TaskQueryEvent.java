@@ -0,0 +1,28 @@
+package hexlet.code.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+/**
+ * One filtered task list, with the filter shape and the number of tasks returned.
+ */
+@Name("hexlet.TaskQuery")
+@Label("Task Query")
+@Category({"Hexlet", "Service"})
+@Description("Filtered task list: which filters were given and how many tasks matched")
+@StackTrace(false)
+@Setter
+public final class TaskQueryEvent extends Event {
+
+    @Label("Filter")
+    @Description("Names of the given filter parameters, without their values")
+    private String filter;
+
+    @Label("Rows")
+    private int rows;
+}
@@ -0,0 +1,23 @@
+package hexlet.code.mapper;
+
+import hexlet.code.dto.apikey.ApiKeyCreateDTO;
+import hexlet.code.dto.apikey.ApiKeyShowDTO;
+import hexlet.code.model.ApiKey;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.NullValuePropertyMappingStrategy;
+import org.mapstruct.ReportingPolicy;
+
+@Mapper(
+        nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE,
+        componentModel = MappingConstants.ComponentModel.SPRING,
+        unmappedTargetPolicy = ReportingPolicy.IGNORE
+)
+public abstract class ApiKeyMapper {
+
+    public abstract ApiKey map(ApiKeyCreateDTO dto);
+
+    @Mapping(target = "key", ignore = true)
+    public abstract ApiKeyShowDTO map(ApiKey model);
+}
@@ -12,6 +12,7 @@ import org.mapstruct.NullValuePropertyMappingStrategy;
 import org.mapstruct.ReportingPolicy;
 import org.mapstruct.BeforeMapping;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.openapitools.jackson.nullable.JsonNullable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 /**
@@ -48,6 +49,19 @@ public abstract class UserMapper {
         data.setPassword(encoder.encode(password));
     }
 
+    /**
+     * Pre-mapping hook that encrypts the password of an update, if the update changes it.
+     *
+     * @param data the UserUpdateDTO object containing the password to encrypt
+     */
+    @BeforeMapping
+    public void encryptPassword(UserUpdateDTO data) {
+        var password = data.getPassword();
+        if (password != null && password.isPresent() && password.get() != null) {
+            data.setPassword(JsonNullable.of(encoder.encode(password.get())));
+        }
+    }
+
     /**
      * Maps a UserCreateDTO to a User entity, transforming the password to a password digest.
      *
@@ -0,0 +1,56 @@
+package hexlet.code.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.authentication.AuthenticationTrustResolver;
+import org.springframework.security.authentication.AuthenticationTrustResolverImpl;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Times every controller method into the {@code app.controller} timer and closes the auth phase
+ * of sampled requests once the request reaches its handler, where the caller is known,
+ * marking the requests of authenticated callers as reportable.
+ * An interceptor rather than an aspect, because the controllers are final and cannot be proxied.
+ */
+public final class ControllerTimingInterceptor implements HandlerInterceptor {
+
+    private static final String STARTED = ControllerTimingInterceptor.class.getName() + ".started";
+    private static final AuthenticationTrustResolver TRUST_RESOLVER = new AuthenticationTrustResolverImpl();
+
+    private final MethodTimers timers;
+
+    /**
+     * Creates the interceptor.
+     *
+     * @param registry the registry the timers are registered in
+     */
+    public ControllerTimingInterceptor(MeterRegistry registry) {
+        this.timers = new MethodTimers(registry, "app.controller", "Controller method time, excluding filters");
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod) {
+            RequestTiming timing = RequestTiming.current();
+            if (timing != null) {
+                timing.add(RequestTiming.Phase.AUTH, timing.elapsed());
+                if (TRUST_RESOLVER.isAuthenticated(SecurityContextHolder.getContext().getAuthentication())) {
+                    timing.authenticated();
+                }
+            }
+            request.setAttribute(STARTED, System.nanoTime());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (handler instanceof HandlerMethod method && request.getAttribute(STARTED) instanceof Long started) {
+            timers.record(method.getBeanType(), method.getMethod(), ex, System.nanoTime() - started);
+        }
+    }
+}
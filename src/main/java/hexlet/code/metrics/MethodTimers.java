@@ -0,0 +1,43 @@
+package hexlet.code.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Timers of one layer, tagged with the class and method name and the exception thrown, if any.
+ * The timers of successful calls are cached per method, so recording them allocates nothing.
+ */
+final class MethodTimers {
+
+    private static final String NONE = "none";
+
+    private final MeterRegistry registry;
+    private final String name;
+    private final String description;
+    private final Map<Method, Timer> succeeded = new ConcurrentHashMap<>();
+
+    MethodTimers(MeterRegistry meterRegistry, String timerName, String timerDescription) {
+        this.registry = meterRegistry;
+        this.name = timerName;
+        this.description = timerDescription;
+    }
+
+    void record(Class<?> type, Method method, Throwable error, long nanos) {
+        Timer timer = error == null
+                ? succeeded.computeIfAbsent(method, m -> timer(type, m, NONE))
+                : timer(type, method, error.getClass().getSimpleName());
+        timer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer timer(Class<?> type, Method method, String exception) {
+        return Timer.builder(name)
+                .description(description)
+                .tags("class", type.getSimpleName(), "method", method.getName(), "exception", exception)
+                .register(registry);
+    }
+}
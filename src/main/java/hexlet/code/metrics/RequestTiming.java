@@ -0,0 +1,165 @@
+package hexlet.code.metrics;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * Time spent in each phase of the current request, reported in the {@code Server-Timing} header.
+ * Bound to the request thread by {@link ServerTimingFilter} for sampled requests only;
+ * for the others {@link #current()} is {@code null} and recording is a no-op.
+ * The header is only reported to authenticated callers, so the phase timings cannot be used
+ * to probe authentication from outside.
+ */
+public final class RequestTiming {
+
+    /**
+     * Phases of a request.
+     */
+    public enum Phase {
+        AUTH("filters and authentication"),
+        DB("statement execution"),
+        MAPPING("entity and DTO mapping"),
+        SERIALIZATION("response body serialization");
+
+        private final String description;
+
+        Phase(String phaseDescription) {
+            this.description = phaseDescription;
+        }
+    }
+
+    private static final ThreadLocal<RequestTiming> CURRENT = new ThreadLocal<>();
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final long started = System.nanoTime();
+    private final Map<Phase, long[]> phases = new EnumMap<>(Phase.class);
+    private final EnumSet<Phase> active = EnumSet.noneOf(Phase.class);
+    private int dbStatements;
+    private boolean authenticated;
+    private boolean reported;
+
+    private RequestTiming() {
+    }
+
+    /**
+     * Starts timing the current request.
+     *
+     * @return the timing bound to the current thread
+     */
+    static RequestTiming start() {
+        RequestTiming timing = new RequestTiming();
+        CURRENT.set(timing);
+        return timing;
+    }
+
+    /**
+     * Unbinds the timing from the current thread.
+     */
+    static void stop() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Returns the timing of the current request.
+     *
+     * @return the timing, or {@code null} if the request is not sampled
+     */
+    public static RequestTiming current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Adds time to a phase of the current request, if it is sampled.
+     *
+     * @param phase the phase
+     * @param nanos the time spent
+     */
+    public static void record(Phase phase, long nanos) {
+        RequestTiming timing = CURRENT.get();
+        if (timing != null) {
+            timing.add(phase, nanos);
+        }
+    }
+
+    /**
+     * Counts one executed statement towards the database phase of the current request, if it is sampled.
+     *
+     * @param nanos the time spent in the driver
+     */
+    public static void recordStatement(long nanos) {
+        RequestTiming timing = CURRENT.get();
+        if (timing != null) {
+            timing.dbStatements++;
+            timing.add(Phase.DB, nanos);
+        }
+    }
+
+    /**
+     * Time since the request entered the timing filter.
+     *
+     * @return the elapsed time in nanoseconds
+     */
+    public long elapsed() {
+        return System.nanoTime() - started;
+    }
+
+    /**
+     * Enters a phase that may be reached again from within itself, such as a mapper calling another mapper.
+     *
+     * @param phase the phase
+     * @return {@code true} if the caller is the outermost one and must call {@link #exit}
+     */
+    boolean enter(Phase phase) {
+        return active.add(phase);
+    }
+
+    void exit(Phase phase, long nanos) {
+        active.remove(phase);
+        add(phase, nanos);
+    }
+
+    void add(Phase phase, long nanos) {
+        phases.computeIfAbsent(phase, p -> new long[1])[0] += nanos;
+    }
+
+    /**
+     * Marks the caller as authenticated, which makes the timing reportable.
+     */
+    void authenticated() {
+        authenticated = true;
+    }
+
+    /**
+     * Whether the header should be written: the caller is authenticated and it was not written yet.
+     *
+     * @return {@code true} if the header is still to be reported
+     */
+    boolean isReportable() {
+        return authenticated && !reported;
+    }
+
+    /**
+     * Renders the header value and marks the timing as reported, so the filter does not set it again.
+     *
+     * @return the {@code Server-Timing} header value
+     */
+    String header() {
+        reported = true;
+        StringJoiner header = new StringJoiner(", ");
+        phases.forEach((phase, nanos) -> {
+            String description = phase == Phase.DB
+                    ? dbStatements + " statements"
+                    : phase.description;
+            header.add(metric(phase.name().toLowerCase(Locale.ROOT), nanos[0], description));
+        });
+        header.add(metric("total", elapsed(), "until headers were written"));
+        return header.toString();
+    }
+
+    private static String metric(String name, long nanos, String description) {
+        return String.format(Locale.ROOT, "%s;dur=%.2f;desc=\"%s\"", name, nanos / NANOS_PER_MILLI, description);
+    }
+}
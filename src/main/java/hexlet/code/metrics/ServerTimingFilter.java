@@ -0,0 +1,56 @@
+package hexlet.code.metrics;
+
+import hexlet.code.component.ServerTimingProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.AllArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Samples API requests for the {@code Server-Timing} header and binds their {@link RequestTiming}.
+ * Runs right after the concurrency limit and ahead of the security filter chain, so the auth phase
+ * covers authentication and rate limiting. Responses with a body get the header from
+ * {@link TimedJacksonHttpMessageConverter}; the rest get it here, if the response is not yet committed.
+ * Only requests that reach a controller as an authenticated caller are reported, see {@link RequestTiming}.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+@AllArgsConstructor
+public final class ServerTimingFilter extends OncePerRequestFilter {
+
+    /**
+     * The header name.
+     */
+    public static final String SERVER_TIMING = "Server-Timing";
+
+    private final ServerTimingProperties properties;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (!properties.isEnabled() || !path.startsWith("/api/")
+                || ThreadLocalRandom.current().nextDouble() >= properties.getSampleRate()) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        RequestTiming timing = RequestTiming.start();
+        try {
+            chain.doFilter(request, response);
+            if (timing.isReportable() && !response.isCommitted()) {
+                response.setHeader(SERVER_TIMING, timing.header());
+            }
+        } finally {
+            RequestTiming.stop();
+        }
+    }
+}
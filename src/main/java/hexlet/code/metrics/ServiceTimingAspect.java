@@ -0,0 +1,97 @@
+package hexlet.code.metrics;
+
+import hexlet.code.jfr.MapperCallEvent;
+import hexlet.code.jfr.ServiceCallEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+
+/**
+ * Times every public service method into the {@code app.service} timer,
+ * and adds the time spent in mappers to the mapping phase of sampled requests.
+ * Mapper calls are not timed into a meter, since list mappings call them once per element,
+ * and the helper mappers that the generated ones call per property are not intercepted at all.
+ * Both also emit flight recorder events, which cost a branch while no recording is running.
+ */
+@Aspect
+public final class ServiceTimingAspect {
+
+    private final MethodTimers timers;
+
+    /**
+     * Creates the aspect.
+     *
+     * @param registry the registry the timers are registered in
+     */
+    public ServiceTimingAspect(MeterRegistry registry) {
+        this.timers = new MethodTimers(registry, "app.service", "Service method time, including transactions");
+    }
+
+    /**
+     * Times a service method.
+     *
+     * @param call the intercepted call
+     * @return the result of the method
+     * @throws Throwable whatever the method throws
+     */
+    @Around("@within(org.springframework.stereotype.Service) && execution(public * *(..))")
+    public Object timeService(ProceedingJoinPoint call) throws Throwable {
+        ServiceCallEvent event = new ServiceCallEvent();
+        event.begin();
+        long start = System.nanoTime();
+        Throwable error = null;
+        try {
+            return call.proceed();
+        } catch (Throwable e) {
+            error = e;
+            throw e;
+        } finally {
+            Class<?> type = ClassUtils.getUserClass(call.getTarget());
+            Method method = ((MethodSignature) call.getSignature()).getMethod();
+            timers.record(type, method, error, System.nanoTime() - start);
+            if (event.shouldCommit()) {
+                event.setService(type.getSimpleName());
+                event.setMethod(method.getName());
+                event.setException(error == null ? null : error.getClass().getSimpleName());
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Adds a mapper call to the mapping phase of the current request, if it is sampled.
+     *
+     * @param call the intercepted call
+     * @return the result of the method
+     * @throws Throwable whatever the method throws
+     */
+    @Around("execution(public * hexlet.code.mapper..*.*(..))"
+            + " && !within(hexlet.code.mapper.JsonNullableMapper+) && !within(hexlet.code.mapper.ReferenceMapper+)")
+    public Object timeMapping(ProceedingJoinPoint call) throws Throwable {
+        MapperCallEvent event = new MapperCallEvent();
+        RequestTiming timing = RequestTiming.current();
+        boolean outermost = timing != null && timing.enter(RequestTiming.Phase.MAPPING);
+        if (!outermost && !event.isEnabled()) {
+            return call.proceed();
+        }
+        event.begin();
+        long start = System.nanoTime();
+        try {
+            return call.proceed();
+        } finally {
+            if (outermost) {
+                timing.exit(RequestTiming.Phase.MAPPING, System.nanoTime() - start);
+            }
+            if (event.shouldCommit()) {
+                event.setMapper(ClassUtils.getUserClass(call.getTarget()).getSimpleName());
+                event.setMethod(call.getSignature().getName());
+                event.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package hexlet.code.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+
+/**
+ * JSON converter that reports the serialization phase of sampled requests.
+ * A sampled body is serialized into a buffer first, so the {@code Server-Timing} header,
+ * which must precede the body, can include the serialization time. Other bodies are streamed as usual.
+ */
+public final class TimedJacksonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    /**
+     * Creates the converter.
+     *
+     * @param objectMapper the application object mapper
+     */
+    public TimedJacksonHttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+        RequestTiming timing = RequestTiming.current();
+        if (timing == null || !timing.isReportable()) {
+            super.writeInternal(object, type, outputMessage);
+            return;
+        }
+
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        long start = System.nanoTime();
+        super.writeInternal(object, type, new HttpOutputMessage() {
+            @Override
+            public OutputStream getBody() {
+                return buffer;
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                return outputMessage.getHeaders();
+            }
+        });
+        timing.add(RequestTiming.Phase.SERIALIZATION, System.nanoTime() - start);
+
+        outputMessage.getHeaders().set(ServerTimingFilter.SERVER_TIMING, timing.header());
+        outputMessage.getHeaders().setContentLength(buffer.size());
+        buffer.writeTo(outputMessage.getBody());
+    }
+}
@@ -3,6 +3,7 @@ package hexlet.code.model;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.Id;
 import jakarta.persistence.Column;
@@ -17,7 +18,7 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
 
-import static jakarta.persistence.GenerationType.IDENTITY;
+import static jakarta.persistence.GenerationType.SEQUENCE;
 
 @Entity
 @Table(name = "labels")
@@ -29,7 +30,8 @@ import static jakarta.persistence.GenerationType.IDENTITY;
 public class Label implements BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = IDENTITY)
+    @GeneratedValue(strategy = SEQUENCE, generator = "labels_seq")
+    @SequenceGenerator(name = "labels_seq", sequenceName = "labels_seq", allocationSize = 50)
     private Long id;
 
     @Column(unique = true)
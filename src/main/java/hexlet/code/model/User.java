@@ -4,6 +4,7 @@ import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.Email;
@@ -11,6 +12,7 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -22,12 +24,14 @@ import java.util.Collection;
 
 @EntityListeners(AuditingEntityListener.class)
 @Entity
+@DynamicUpdate
 @Getter
 @Setter
 @Table(name = "users")
-public final class User implements BaseEntity, UserDetails {
+public class User implements BaseEntity, UserDetails {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private long id;
     private String firstName;
     private String lastName;
@@ -41,36 +45,71 @@ public final class User implements BaseEntity, UserDetails {
     @LastModifiedDate
     private LocalDateTime updatedAt;
 
+    /**
+     * The password digest, as Spring Security expects it.
+     *
+     * @return the password digest
+     */
     @Override
     public String getPassword() {
         return passwordDigest;
     }
 
+    /**
+     * Users sign in with their email.
+     *
+     * @return the email
+     */
     @Override
     public String getUsername() {
         return email;
     }
 
+    /**
+     * Users cannot be disabled.
+     *
+     * @return always true
+     */
     @Override
     public boolean isEnabled() {
         return true;
     }
 
+    /**
+     * Users have no authorities.
+     *
+     * @return an empty collection
+     */
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return new ArrayList<GrantedAuthority>();
     }
 
+    /**
+     * Accounts do not expire.
+     *
+     * @return always true
+     */
     @Override
     public boolean isAccountNonExpired() {
         return true;
     }
 
+    /**
+     * Accounts cannot be locked.
+     *
+     * @return always true
+     */
     @Override
     public boolean isAccountNonLocked() {
         return true;
     }
 
+    /**
+     * Credentials do not expire.
+     *
+     * @return always true
+     */
     @Override
     public boolean isCredentialsNonExpired() {
         return true;
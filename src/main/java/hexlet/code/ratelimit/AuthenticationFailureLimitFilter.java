@@ -0,0 +1,60 @@
+package hexlet.code.ratelimit;
+
+import hexlet.code.security.ApiKeyAuthenticationFilter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.AllArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Limits credential guessing against the API, per client IP.
+ * Runs before authentication: every request under /api answered 401 charges the client's
+ * {@link RateLimiter#AUTH_FAILURE} bucket, and once it is empty, requests carrying credentials
+ * (an {@code Authorization} or {@code X-API-Key} header) are answered 429 without checking them,
+ * so a stream of wrong passwords costs neither BCrypt checks nor user lookups.
+ */
+@AllArgsConstructor
+public final class AuthenticationFailureLimitFilter extends OncePerRequestFilter {
+
+    /**
+     * Limiter holding the token buckets.
+     */
+    private final RateLimiter rateLimiter;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!rateLimiter.isEnabled() || !hasCredentials(request) || !isApi(request)) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        String key = "ip:" + request.getRemoteAddr();
+        long retryAfter = rateLimiter.retryAfter(RateLimiter.AUTH_FAILURE, key);
+        if (retryAfter > 0) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(RateLimitFilter.toSeconds(retryAfter)));
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            return;
+        }
+
+        chain.doFilter(request, response);
+        if (response.getStatus() == HttpStatus.UNAUTHORIZED.value()) {
+            rateLimiter.acquire(RateLimiter.AUTH_FAILURE, key);
+        }
+    }
+
+    private static boolean hasCredentials(HttpServletRequest request) {
+        return request.getHeader(HttpHeaders.AUTHORIZATION) != null
+                || request.getHeader(ApiKeyAuthenticationFilter.HEADER) != null;
+    }
+
+    private static boolean isApi(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length()).startsWith("/api/");
+    }
+}
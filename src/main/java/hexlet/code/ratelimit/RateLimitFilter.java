@@ -0,0 +1,89 @@
+package hexlet.code.ratelimit;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.AllArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applies the {@link RateLimiter} to API requests.
+ * Runs in the security filter chain after authentication, so authenticated requests are limited
+ * per user and anonymous ones (including logins) per client IP.
+ * Sets the {@code RateLimit-Limit}, {@code RateLimit-Remaining} and {@code RateLimit-Reset} headers
+ * and answers 429 with {@code Retry-After} once the bucket is empty.
+ * Client IPs are taken from {@link HttpServletRequest#getRemoteAddr()}, which only names the client
+ * behind a load balancer when {@code server.forward-headers-strategy} applies its forwarding headers;
+ * otherwise every anonymous client shares the balancer's bucket.
+ */
+@AllArgsConstructor
+public final class RateLimitFilter extends OncePerRequestFilter {
+
+    /**
+     * Limiter holding the token buckets.
+     */
+    private final RateLimiter rateLimiter;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String route = rateLimiter.isEnabled() ? route(request) : null;
+        if (route == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        RateLimiter.Result result = rateLimiter.acquire(route, key(request, route));
+        TokenBucket.Decision decision = result.decision();
+        response.setHeader("RateLimit-Limit", String.valueOf(result.limit()));
+        response.setHeader("RateLimit-Remaining", String.valueOf(decision.remaining()));
+        response.setHeader("RateLimit-Reset", String.valueOf(toSeconds(decision.resetNanos())));
+
+        if (!result.allowed()) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(toSeconds(decision.retryAfterNanos())));
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            return;
+        }
+        chain.doFilter(request, response);
+    }
+
+    private static String route(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (!path.startsWith("/api/")) {
+            return null;
+        }
+        String method = request.getMethod();
+        if (path.equals("/api/login")) {
+            return HttpMethod.POST.matches(method) ? RateLimiter.LOGIN : null;
+        }
+        if (HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method)) {
+            return RateLimiter.LIST;
+        }
+        return HttpMethod.OPTIONS.matches(method) ? null : RateLimiter.WRITE;
+    }
+
+    private static String key(HttpServletRequest request, String route) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (!RateLimiter.LOGIN.equals(route)
+                && authentication != null
+                && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return "user:" + authentication.getName();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    static long toSeconds(long nanos) {
+        return (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,184 @@
+package hexlet.code.ratelimit;
+
+import hexlet.code.component.RateLimitProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-route token buckets keyed by client (authenticated user or IP).
+ * Memory is bounded by {@code rate-limit.max-keys} per route: full buckets carry no state
+ * and are evicted periodically and whenever a route reaches the bound; if no bucket can be evicted,
+ * new clients share one overflow bucket of that route.
+ */
+@Component
+public final class RateLimiter {
+
+    /**
+     * Route of POST /api/login.
+     */
+    public static final String LOGIN = "login";
+
+    /**
+     * Route of GET requests under /api.
+     */
+    public static final String LIST = "list";
+
+    /**
+     * Route of modifying requests under /api.
+     */
+    public static final String WRITE = "write";
+
+    /**
+     * Route charged with failed authentications under /api.
+     */
+    public static final String AUTH_FAILURE = "auth-failure";
+
+    /**
+     * Rate limit settings.
+     */
+    private final RateLimitProperties properties;
+
+    /**
+     * Limited routes by name.
+     */
+    private final Map<String, Route> routes;
+
+    /**
+     * Creates the limiter and registers its metrics.
+     *
+     * @param rateLimitProperties rate limit settings
+     * @param registry meter registry for the metrics
+     */
+    public RateLimiter(RateLimitProperties rateLimitProperties, MeterRegistry registry) {
+        this.properties = rateLimitProperties;
+        this.routes = Map.of(
+                LOGIN, new Route(LOGIN, rateLimitProperties.getLogin(), registry),
+                LIST, new Route(LIST, rateLimitProperties.getList(), registry),
+                WRITE, new Route(WRITE, rateLimitProperties.getWrite(), registry),
+                AUTH_FAILURE, new Route(AUTH_FAILURE, rateLimitProperties.getAuthFailure(), registry));
+    }
+
+    /**
+     * Whether rate limiting is switched on.
+     *
+     * @return true if requests should be limited
+     */
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * Takes one token from the client's bucket of the given route.
+     *
+     * @param routeName the route name
+     * @param key the client key
+     * @return the decision
+     */
+    public Result acquire(String routeName, String key) {
+        Route route = routes.get(routeName);
+        long now = System.nanoTime();
+        TokenBucket.Decision decision = route.bucket(key, now)
+                .tryAcquire(now, route.interval, route.window);
+        (decision.allowed() ? route.allowed : route.rejected).increment();
+        return new Result(route.capacity, decision);
+    }
+
+    /**
+     * Checks whether the client's bucket of the given route is empty, without taking a token.
+     * A client without a bucket is not limited, and none is created for it.
+     *
+     * @param routeName the route name
+     * @param key the client key
+     * @return nanos until the next token, zero if the client is not limited
+     */
+    public long retryAfter(String routeName, String key) {
+        Route route = routes.get(routeName);
+        TokenBucket bucket = route.buckets.get(key);
+        if (bucket == null) {
+            return 0;
+        }
+        long retryAfter = bucket.retryAfter(System.nanoTime(), route.interval, route.window);
+        if (retryAfter > 0) {
+            route.rejected.increment();
+        }
+        return retryAfter;
+    }
+
+    /**
+     * Drops full (idle) buckets of all routes.
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.eviction-interval:60s}")
+    public void evictIdle() {
+        long now = System.nanoTime();
+        routes.values().forEach(route -> route.evictIdle(now));
+    }
+
+    /**
+     * Outcome of a rate limit check, with the values for the RateLimit headers.
+     *
+     * @param limit bucket capacity of the route
+     * @param decision token bucket decision
+     */
+    public record Result(long limit, TokenBucket.Decision decision) {
+
+        /**
+         * Whether the request may proceed.
+         *
+         * @return true if a token was taken
+         */
+        public boolean allowed() {
+            return decision.allowed();
+        }
+    }
+
+    private final class Route {
+        private final long capacity;
+        private final long interval;
+        private final long window;
+        private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+        private final TokenBucket overflow = new TokenBucket(System.nanoTime());
+        private final Counter allowed;
+        private final Counter rejected;
+
+        Route(String name, RateLimitProperties.Limit limit, MeterRegistry registry) {
+            this.capacity = Math.max(1, limit.getCapacity());
+            this.window = limit.getPeriod().toNanos();
+            this.interval = Math.max(1, window / capacity);
+            this.allowed = Counter.builder("http.ratelimit.requests")
+                    .tag("route", name)
+                    .tag("outcome", "allowed")
+                    .register(registry);
+            this.rejected = Counter.builder("http.ratelimit.requests")
+                    .tag("route", name)
+                    .tag("outcome", "rejected")
+                    .register(registry);
+            Gauge.builder("http.ratelimit.clients", buckets, Map::size)
+                    .tag("route", name)
+                    .register(registry);
+        }
+
+        TokenBucket bucket(String key, long now) {
+            TokenBucket bucket = buckets.get(key);
+            if (bucket != null) {
+                return bucket;
+            }
+            if (buckets.size() >= properties.getMaxKeys()) {
+                evictIdle(now);
+                if (buckets.size() >= properties.getMaxKeys()) {
+                    return overflow;
+                }
+            }
+            return buckets.computeIfAbsent(key, k -> new TokenBucket(now));
+        }
+
+        void evictIdle(long now) {
+            buckets.values().removeIf(bucket -> bucket.isIdle(now));
+        }
+    }
+}
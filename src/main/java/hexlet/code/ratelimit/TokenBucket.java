@@ -0,0 +1,72 @@
+package hexlet.code.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket in its GCRA form: the whole state is a single "theoretical arrival time".
+ * Refill is lazy — it is implied by the distance between that time and now — and a bucket
+ * whose arrival time is in the past is full, so it can be dropped without losing any state.
+ */
+final class TokenBucket {
+
+    /**
+     * Time (System.nanoTime) at which the bucket will be full again.
+     */
+    private final AtomicLong fullAt;
+
+    TokenBucket(long now) {
+        this.fullAt = new AtomicLong(now);
+    }
+
+    /**
+     * Takes one token if available.
+     *
+     * @param now current System.nanoTime
+     * @param interval nanos needed to refill one token
+     * @param window nanos needed to refill the whole bucket
+     * @return the decision with remaining tokens and timings
+     */
+    Decision tryAcquire(long now, long interval, long window) {
+        while (true) {
+            long current = fullAt.get();
+            long start = current - now > 0 ? current : now;
+            long next = start + interval;
+            long untilFull = next - now;
+            if (untilFull > window) {
+                return new Decision(false, 0, start - now, untilFull - window);
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return new Decision(true, (window - untilFull) / interval, untilFull, 0);
+            }
+        }
+    }
+
+    /**
+     * Time until a token is available, without taking one.
+     *
+     * @param now current System.nanoTime
+     * @param interval nanos needed to refill one token
+     * @param window nanos needed to refill the whole bucket
+     * @return nanos until the next token, zero if one is available now
+     */
+    long retryAfter(long now, long interval, long window) {
+        long current = fullAt.get();
+        long untilFull = (current - now > 0 ? current : now) + interval - now;
+        return Math.max(0, untilFull - window);
+    }
+
+    boolean isIdle(long now) {
+        return fullAt.get() - now <= 0;
+    }
+
+    /**
+     * Outcome of a token request.
+     *
+     * @param allowed whether a token was taken
+     * @param remaining tokens left after this request
+     * @param resetNanos nanos until the bucket is full again
+     * @param retryAfterNanos nanos until the next token is available, for rejected requests
+     */
+    record Decision(boolean allowed, long remaining, long resetNanos, long retryAfterNanos) {
+    }
+}
@@ -0,0 +1,19 @@
+package hexlet.code.repository;
+
+import hexlet.code.model.ApiKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ApiKeyRepository extends JpaRepository<ApiKey, Long> {
+    List<ApiKey> findAllByUserId(long userId);
+
+    Optional<ApiKey> findByIdAndUserId(long id, long userId);
+
+    @Query("select k from ApiKey k join fetch k.user")
+    List<ApiKey> findAllWithUser();
+}
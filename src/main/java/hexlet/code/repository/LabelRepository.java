@@ -1,13 +1,54 @@
 package hexlet.code.repository;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import hexlet.code.model.Label;
 
 @Repository
-public interface LabelRepository extends JpaRepository<Label, Long> {
+public interface LabelRepository extends JpaRepository<Label, Long>, LabelRepositoryCustom {
 
     Optional<Label> findByName(String name);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<Label> findLockedByIdInOrderById(Collection<Long> ids);
+
+    /**
+     * Locks the task links of a label and returns the IDs of the linked tasks.
+     *
+     * @param id the ID of the label
+     * @return the IDs of the tasks that have the label
+     */
+    @Query(value = "SELECT task_id FROM tasks_labels WHERE labels_id = :id FOR UPDATE", nativeQuery = true)
+    List<Long> lockTaskIds(@Param("id") long id);
+
+    /**
+     * Moves the task links of a label to another label, skipping the tasks that already have the other label.
+     *
+     * @param from the ID of the label to take the links from
+     * @param to the ID of the label to give the links to
+     * @return the number of moved links
+     */
+    @Modifying
+    @Query(value = "UPDATE tasks_labels SET labels_id = :to WHERE labels_id = :from"
+            + " AND task_id NOT IN (SELECT task_id FROM tasks_labels WHERE labels_id = :to)", nativeQuery = true)
+    int moveTaskLinks(@Param("from") long from, @Param("to") long to);
+
+    /**
+     * Removes all task links of a label.
+     *
+     * @param id the ID of the label
+     * @return the number of removed links
+     */
+    @Modifying
+    @Query(value = "DELETE FROM tasks_labels WHERE labels_id = :id", nativeQuery = true)
+    int deleteTaskLinks(@Param("id") long id);
 }
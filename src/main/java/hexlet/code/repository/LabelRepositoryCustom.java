@@ -0,0 +1,28 @@
+package hexlet.code.repository;
+
+import java.util.Collection;
+
+/**
+ * Label queries that Spring Data cannot derive.
+ */
+public interface LabelRepositoryCustom {
+
+    /**
+     * Attaches a label to tasks with batched INSERT ... SELECT statements.
+     * Tasks that already have the label and IDs of missing tasks are skipped.
+     *
+     * @param labelId the ID of the label
+     * @param taskIds the IDs of the tasks
+     * @return the number of tasks the label was attached to
+     */
+    int attachToTasks(long labelId, Collection<Long> taskIds);
+
+    /**
+     * Detaches a label from tasks with batched DELETE statements.
+     *
+     * @param labelId the ID of the label
+     * @param taskIds the IDs of the tasks
+     * @return the number of tasks the label was detached from
+     */
+    int detachFromTasks(long labelId, Collection<Long> taskIds);
+}
@@ -0,0 +1,45 @@
+package hexlet.code.repository;
+
+import jakarta.persistence.EntityManager;
+import lombok.AllArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+@AllArgsConstructor
+public final class LabelRepositoryCustomImpl implements LabelRepositoryCustom {
+
+    private static final int IDS_PER_STATEMENT = 1000;
+
+    private static final String ATTACH = "INSERT INTO tasks_labels (task_id, labels_id)"
+            + " SELECT t.id, :labelId FROM tasks t WHERE t.id IN (:taskIds)"
+            + " AND NOT EXISTS (SELECT 1 FROM tasks_labels tl WHERE tl.task_id = t.id AND tl.labels_id = :labelId)";
+
+    private static final String DETACH = "DELETE FROM tasks_labels"
+            + " WHERE labels_id = :labelId AND task_id IN (:taskIds)";
+
+    private final EntityManager entityManager;
+
+    @Override
+    public int attachToTasks(long labelId, Collection<Long> taskIds) {
+        return executeInBatches(ATTACH, labelId, taskIds);
+    }
+
+    @Override
+    public int detachFromTasks(long labelId, Collection<Long> taskIds) {
+        return executeInBatches(DETACH, labelId, taskIds);
+    }
+
+    private int executeInBatches(String sql, long labelId, Collection<Long> taskIds) {
+        List<Long> ids = new ArrayList<>(taskIds);
+        int changed = 0;
+        for (int from = 0; from < ids.size(); from += IDS_PER_STATEMENT) {
+            changed += entityManager.createNativeQuery(sql)
+                    .setParameter("labelId", labelId)
+                    .setParameter("taskIds", ids.subList(from, Math.min(from + IDS_PER_STATEMENT, ids.size())))
+                    .executeUpdate();
+        }
+        return changed;
+    }
+}
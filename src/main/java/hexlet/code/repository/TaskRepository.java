@@ -5,6 +5,8 @@ import hexlet.code.model.TaskStatus;
 import hexlet.code.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -13,10 +15,23 @@ import java.util.Optional;
 @Repository
 public interface TaskRepository extends
         JpaRepository<Task, Long>,
-        JpaSpecificationExecutor<Task> {
+        JpaSpecificationExecutor<Task>,
+        TaskRepositoryCustom {
     List<Task> findAllByAssignee(User assignee);
 
     List<Task> findAllByTaskStatus(TaskStatus status);
 
     Optional<Task> findByName(String name);
+
+    boolean existsByTaskStatusId(long taskStatusId);
+
+    /**
+     * Checks whether any task has the label, from the link table alone: the derived query
+     * left-joins the tasks first, which H2 cannot reorder and so scans every task.
+     *
+     * @param labelId the ID of the label
+     * @return whether the label is in use
+     */
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM tasks_labels WHERE labels_id = :labelId)", nativeQuery = true)
+    boolean existsByLabelsId(@Param("labelId") long labelId);
 }
@@ -0,0 +1,53 @@
+package hexlet.code.repository;
+
+import hexlet.code.model.Task;
+import hexlet.code.model.TaskStatus;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Task queries that Spring Data cannot derive.
+ */
+public interface TaskRepositoryCustom {
+
+    /**
+     * Updates the given basic attributes of a task with one UPDATE statement, without loading the task.
+     *
+     * @param id the ID of the task
+     * @param attributes new values by attribute name, only basic (non-association) attributes;
+     *                   a null value clears the column
+     * @return the number of updated rows, zero if the task does not exist
+     */
+    int updateAttributes(long id, Map<String, Object> attributes);
+
+    /**
+     * Selects the IDs of the tasks matching a specification, without loading the tasks.
+     *
+     * @param spec the specification to match
+     * @return the IDs of the matching tasks
+     */
+    List<Long> findIds(Specification<Task> spec);
+
+    /**
+     * Locks the tasks in a status that match the optional filters and returns their IDs.
+     *
+     * @param status the current status of the tasks
+     * @param assigneeId the ID of the assignee to match, or null for any
+     * @param labelId the ID of a label the tasks must have, or null for any
+     * @return the IDs of the locked tasks
+     */
+    List<Long> lockIdsByStatus(TaskStatus status, Long assigneeId, Long labelId);
+
+    /**
+     * Moves the tasks in a status that match the optional filters to another status with one UPDATE statement.
+     *
+     * @param from the current status of the tasks
+     * @param to the new status
+     * @param assigneeId the ID of the assignee to match, or null for any
+     * @param labelId the ID of a label the tasks must have, or null for any
+     * @return the number of moved tasks
+     */
+    int updateStatus(TaskStatus from, TaskStatus to, Long assigneeId, Long labelId);
+}
@@ -0,0 +1,102 @@
+package hexlet.code.repository;
+
+import hexlet.code.model.Label;
+import hexlet.code.model.Task;
+import hexlet.code.model.TaskStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.criteria.CommonAbstractCriteria;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import lombok.AllArgsConstructor;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@AllArgsConstructor
+public final class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public int updateAttributes(long id, Map<String, Object> attributes) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Task> update = builder.createCriteriaUpdate(Task.class);
+        Root<Task> task = update.from(Task.class);
+        attributes.forEach((name, value) -> {
+            Path<Object> attribute = task.get(name);
+            if (value == null) {
+                setNull(update, builder, attribute);
+            } else {
+                update.set(attribute, value);
+            }
+        });
+        update.where(builder.equal(task.get("id"), id));
+        return entityManager.createQuery(update).executeUpdate();
+    }
+
+    private static <T> void setNull(CriteriaUpdate<Task> update, CriteriaBuilder builder, Path<T> attribute) {
+        Expression<? extends T> nullValue = builder.nullLiteral(attribute.getJavaType());
+        update.set(attribute, nullValue);
+    }
+
+    @Override
+    public List<Long> findIds(Specification<Task> spec) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = builder.createQuery(Long.class);
+        Root<Task> task = query.from(Task.class);
+        query.select(task.get("id"))
+                .where(spec.toPredicate(task, query, builder));
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    @Override
+    public List<Long> lockIdsByStatus(TaskStatus status, Long assigneeId, Long labelId) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = builder.createQuery(Long.class);
+        Root<Task> task = query.from(Task.class);
+        query.select(task.get("id"))
+                .where(byStatus(builder, query, task, status, assigneeId, labelId));
+        return entityManager.createQuery(query)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .getResultList();
+    }
+
+    @Override
+    public int updateStatus(TaskStatus from, TaskStatus to, Long assigneeId, Long labelId) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Task> update = builder.createCriteriaUpdate(Task.class);
+        Root<Task> task = update.from(Task.class);
+        update.set(task.<TaskStatus>get("taskStatus"), to)
+                .where(byStatus(builder, update, task, from, assigneeId, labelId));
+        return entityManager.createQuery(update).executeUpdate();
+    }
+
+    private static Predicate[] byStatus(CriteriaBuilder builder, CommonAbstractCriteria criteria, Root<Task> task,
+                                        TaskStatus status, Long assigneeId, Long labelId) {
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(builder.equal(task.get("taskStatus"), status));
+        if (assigneeId != null) {
+            predicates.add(builder.equal(task.get("assignee").get("id"), assigneeId));
+        }
+        if (labelId != null) {
+            Subquery<Long> labelled = criteria.subquery(Long.class);
+            Root<Task> labelledTask = labelled.from(Task.class);
+            Join<Task, Label> label = labelledTask.join("labels");
+            labelled.select(labelledTask.get("id"))
+                    .where(builder.equal(labelledTask.get("id"), task.get("id")),
+                            builder.equal(label.get("id"), labelId));
+            predicates.add(builder.exists(labelled));
+        }
+        return predicates.toArray(new Predicate[0]);
+    }
+}
@@ -1,9 +1,13 @@
 package hexlet.code.repository;
 
 import hexlet.code.model.TaskStatus;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -11,4 +15,12 @@ public interface TaskStatusRepository extends JpaRepository<TaskStatus, Long> {
     Optional<TaskStatus> findBySlug(String slug);
 
     Optional<TaskStatus> findByName(String name);
+
+    List<TaskStatus> findAllBySlugInOrNameIn(Collection<String> slugs, Collection<String> names);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<TaskStatus> findLockedBySlug(String slug);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<TaskStatus> findLockedByIdInOrderById(Collection<Long> ids);
 }
@@ -0,0 +1,56 @@
+package hexlet.code.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.AllArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Authenticates requests carrying an {@code X-API-Key} header against the {@link ApiKeyIndex}.
+ * Requests without the header pass through to the JWT and HTTP Basic authentication.
+ */
+@AllArgsConstructor
+public final class ApiKeyAuthenticationFilter extends OncePerRequestFilter {
+
+    /**
+     * Request header carrying the raw API key.
+     */
+    public static final String HEADER = "X-API-Key";
+
+    /**
+     * Index of active API keys.
+     */
+    private final ApiKeyIndex apiKeyIndex;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String rawKey = request.getHeader(HEADER);
+        if (rawKey == null || rawKey.isBlank()) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        ApiKeyIndex.Principal principal = apiKeyIndex.find(rawKey.strip());
+        if (principal == null) {
+            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+            response.setHeader(HttpHeaders.WWW_AUTHENTICATE, "ApiKey");
+            return;
+        }
+
+        var authentication = UsernamePasswordAuthenticationToken.authenticated(principal.email(), null, List.of());
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(authentication);
+        SecurityContextHolder.setContext(context);
+        chain.doFilter(request, response);
+    }
+}
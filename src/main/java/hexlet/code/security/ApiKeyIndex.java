@@ -0,0 +1,165 @@
+package hexlet.code.security;
+
+import hexlet.code.model.ApiKey;
+import hexlet.code.repository.ApiKeyRepository;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory index of API keys by the SHA-256 hash of the key value.
+ * Kept in sync with the {@code api_keys} table: writes on this node update it directly,
+ * and a periodic reload picks up keys created or revoked on other nodes.
+ * Authenticating a key is one SHA-256 and one hash map lookup.
+ */
+@Component
+public final class ApiKeyIndex implements SmartInitializingSingleton {
+
+    /**
+     * Prefix of every generated key, to make keys recognizable in configs and logs.
+     */
+    public static final String KEY_PREFIX = "hx_";
+
+    private static final int KEY_BYTES = 32;
+
+    /**
+     * Repository the index is loaded from.
+     */
+    private final ApiKeyRepository apiKeyRepository;
+
+    /**
+     * Source of random key material.
+     */
+    private final SecureRandom random = new SecureRandom();
+
+    /**
+     * Key owners by key hash.
+     */
+    private volatile Map<String, Principal> byHash = new ConcurrentHashMap<>();
+
+    /**
+     * Creates an empty index; it is filled once all beans exist, before the server accepts requests.
+     *
+     * @param repository repository of API keys
+     */
+    public ApiKeyIndex(ApiKeyRepository repository) {
+        this.apiKeyRepository = repository;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        reload();
+    }
+
+    /**
+     * Reloads the whole index from the table.
+     * Runs on startup and then periodically to pick up changes made by other nodes.
+     */
+    @Scheduled(fixedDelayString = "${auth.api-keys.refresh-interval:60s}")
+    public synchronized void reload() {
+        Map<String, Principal> loaded = new ConcurrentHashMap<>();
+        for (ApiKey apiKey : apiKeyRepository.findAllWithUser()) {
+            loaded.put(apiKey.getKeyHash(), Principal.of(apiKey));
+        }
+        byHash = loaded;
+    }
+
+    /**
+     * Finds the owner of the given raw key.
+     *
+     * @param rawKey the key value presented by the client
+     * @return the key owner, or null if the key is unknown or revoked
+     */
+    public Principal find(String rawKey) {
+        return byHash.get(hash(rawKey));
+    }
+
+    /**
+     * Registers a newly stored key.
+     *
+     * @param apiKey the saved key with its owner
+     */
+    public synchronized void add(ApiKey apiKey) {
+        byHash.put(apiKey.getKeyHash(), Principal.of(apiKey));
+    }
+
+    /**
+     * Forgets a revoked key.
+     *
+     * @param keyHash hash of the revoked key
+     */
+    public synchronized void remove(String keyHash) {
+        byHash.remove(keyHash);
+    }
+
+    /**
+     * Forgets all keys of a removed user.
+     *
+     * @param userId the ID of the removed user
+     */
+    public synchronized void removeUser(long userId) {
+        byHash.values().removeIf(principal -> principal.userId() == userId);
+    }
+
+    /**
+     * Updates the email the keys of a user authenticate as.
+     *
+     * @param userId the ID of the changed user
+     * @param email the new email of the user
+     */
+    public synchronized void updateEmail(long userId, String email) {
+        byHash.replaceAll((hash, principal) -> principal.userId() == userId
+                ? new Principal(principal.keyId(), userId, email)
+                : principal);
+    }
+
+    /**
+     * Generates a new random key value.
+     *
+     * @return the raw key, to be shown to the client once
+     */
+    public String generateKey() {
+        byte[] bytes = new byte[KEY_BYTES];
+        random.nextBytes(bytes);
+        return KEY_PREFIX + Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    /**
+     * Hashes a raw key value for storage and lookup.
+     * Keys carry 256 bits of randomness, so a fast unsalted hash is sufficient.
+     *
+     * @param rawKey the raw key value
+     * @return hex-encoded SHA-256 of the key
+     */
+    public String hash(String rawKey) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(rawKey.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Owner of an API key.
+     *
+     * @param keyId the ID of the key
+     * @param userId the ID of the owning user
+     * @param email the email (username) of the owning user
+     */
+    public record Principal(long keyId, long userId, String email) {
+
+        static Principal of(ApiKey apiKey) {
+            return new Principal(apiKey.getId(), apiKey.getUser().getId(), apiKey.getUser().getEmail());
+        }
+    }
+}
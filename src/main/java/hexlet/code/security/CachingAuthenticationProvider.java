@@ -0,0 +1,56 @@
+package hexlet.code.security;
+
+import lombok.AllArgsConstructor;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * Authentication provider that answers repeated username/password authentications
+ * (HTTP Basic clients, logins) from the {@link CredentialCache} and falls back
+ * to the delegate provider on a miss.
+ */
+@AllArgsConstructor
+public final class CachingAuthenticationProvider implements AuthenticationProvider {
+
+    /**
+     * Provider performing the full user lookup and password verification.
+     */
+    private final AuthenticationProvider delegate;
+
+    /**
+     * Cache of recently verified credentials.
+     */
+    private final CredentialCache credentialCache;
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        String username = authentication.getName();
+        Object credentials = authentication.getCredentials();
+        if (credentials == null) {
+            return delegate.authenticate(authentication);
+        }
+        String password = credentials.toString();
+
+        UserDetails cached = credentialCache.get(username, password);
+        if (cached != null) {
+            var result = UsernamePasswordAuthenticationToken.authenticated(cached, null, cached.getAuthorities());
+            result.setDetails(authentication.getDetails());
+            return result;
+        }
+
+        long version = credentialCache.version();
+        Authentication result = delegate.authenticate(authentication);
+        if (result != null && result.getPrincipal() instanceof UserDetails user) {
+            credentialCache.put(username, password, user, version);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return delegate.supports(authentication);
+    }
+}
@@ -0,0 +1,161 @@
+package hexlet.code.security;
+
+import hexlet.code.component.CredentialCacheProperties;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Short-lived cache of successfully verified username/password pairs.
+ * Stores only a salted HMAC-SHA256 of the credentials, keyed with a secret generated at startup,
+ * so a cache hit costs a single HMAC instead of a user lookup and a BCrypt round.
+ */
+@Component
+public final class CredentialCache {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int KEY_LENGTH = 32;
+    private static final int SALT_LENGTH = 16;
+
+    /**
+     * Cached entries by username.
+     */
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Number of evictions so far; a verification that overlapped an eviction must not be cached.
+     */
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * Cache settings (TTL, size bound, on/off switch).
+     */
+    private final CredentialCacheProperties properties;
+
+    /**
+     * Source of the HMAC key and of the per-entry salts.
+     */
+    private final SecureRandom random = new SecureRandom();
+
+    /**
+     * Process-local HMAC key; never leaves memory.
+     */
+    private final SecretKeySpec key;
+
+    /**
+     * Creates the cache with a freshly generated HMAC key.
+     *
+     * @param cacheProperties cache settings
+     */
+    public CredentialCache(CredentialCacheProperties cacheProperties) {
+        this.properties = cacheProperties;
+        byte[] secret = new byte[KEY_LENGTH];
+        random.nextBytes(secret);
+        this.key = new SecretKeySpec(secret, ALGORITHM);
+    }
+
+    /**
+     * Returns the cached user if the given credentials match a live entry.
+     *
+     * @param username the username (email) presented by the client
+     * @param password the raw password presented by the client
+     * @return the user verified earlier, or null on a miss
+     */
+    public UserDetails get(String username, String password) {
+        if (!properties.isEnabled() || username == null || password == null) {
+            return null;
+        }
+        Entry entry = entries.get(username);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt() < System.currentTimeMillis()) {
+            entries.remove(username, entry);
+            return null;
+        }
+        byte[] digest = digest(entry.salt(), username, password);
+        return MessageDigest.isEqual(digest, entry.digest()) ? entry.user() : null;
+    }
+
+    /**
+     * Returns the current cache version, to be taken before a full verification and passed to
+     * {@link #put(String, String, UserDetails, long)}.
+     *
+     * @return the number of evictions so far
+     */
+    public long version() {
+        return evictions.get();
+    }
+
+    /**
+     * Remembers credentials that have just passed full verification.
+     * Skips caching when the cache is full of live entries, and when any entry was evicted since
+     * the verification started, because the user may have been read before a committed change.
+     *
+     * @param username the verified username
+     * @param password the verified raw password
+     * @param user the loaded user details
+     * @param version the {@link #version()} taken before the verification
+     */
+    public void put(String username, String password, UserDetails user, long version) {
+        if (!properties.isEnabled() || username == null || password == null || evictions.get() != version) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (entries.size() >= properties.getMaxEntries()) {
+            entries.values().removeIf(entry -> entry.expiresAt() < now);
+            if (entries.size() >= properties.getMaxEntries()) {
+                return;
+            }
+        }
+        byte[] salt = new byte[SALT_LENGTH];
+        random.nextBytes(salt);
+        long expiresAt = now + properties.getTtl().toMillis();
+        entries.put(username, new Entry(salt, digest(salt, username, password), user, expiresAt));
+    }
+
+    /**
+     * Drops the entry for the given username, e.g. after the user was changed or removed.
+     *
+     * @param username the username (email) to forget
+     */
+    public void evict(String username) {
+        if (username != null) {
+            evictions.incrementAndGet();
+            entries.remove(username);
+        }
+    }
+
+    /**
+     * Drops all entries.
+     */
+    public void clear() {
+        evictions.incrementAndGet();
+        entries.clear();
+    }
+
+    private byte[] digest(byte[] salt, String username, String password) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            mac.update(salt);
+            mac.update(username.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            return mac.doFinal(password.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 is not available", e);
+        }
+    }
+
+    private record Entry(byte[] salt, byte[] digest, UserDetails user, long expiresAt) {
+    }
+}
@@ -0,0 +1,84 @@
+package hexlet.code.service;
+
+import hexlet.code.dto.apikey.ApiKeyCreateDTO;
+import hexlet.code.dto.apikey.ApiKeyShowDTO;
+import hexlet.code.mapper.ApiKeyMapper;
+import hexlet.code.model.ApiKey;
+import hexlet.code.model.User;
+import hexlet.code.repository.ApiKeyRepository;
+import hexlet.code.repository.UserRepository;
+import hexlet.code.security.ApiKeyIndex;
+import hexlet.code.util.AfterCommit;
+import lombok.AllArgsConstructor;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Service managing per-user API keys.
+ * Only the hash of a key is stored; the raw key is returned once, on creation.
+ */
+@Service
+@AllArgsConstructor
+public class ApiKeyService {
+
+    private static final int PREFIX_LENGTH = 8;
+
+    private final ApiKeyRepository apiKeyRepository;
+    private final UserRepository userRepository;
+    private final ApiKeyMapper mapper;
+    private final ApiKeyIndex apiKeyIndex;
+
+    /**
+     * Lists the keys of a user.
+     *
+     * @param userId the ID of the user
+     * @return list of keys as DTOs, without key values
+     */
+    @Transactional(readOnly = true)
+    public List<ApiKeyShowDTO> getAll(long userId) {
+        return apiKeyRepository.findAllByUserId(userId).stream().map(mapper::map).toList();
+    }
+
+    /**
+     * Creates a key for a user.
+     * The key is added to the in-memory index once the insert has committed.
+     *
+     * @param userId the ID of the user
+     * @param data the DTO containing key creation data
+     * @return the created key as a DTO, including the raw key value
+     */
+    @Transactional
+    public ApiKeyShowDTO create(long userId, ApiKeyCreateDTO data) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new UsernameNotFoundException("User with id = " + userId + " not found"));
+        String rawKey = apiKeyIndex.generateKey();
+
+        ApiKey apiKey = mapper.map(data);
+        apiKey.setUser(user);
+        apiKey.setPrefix(rawKey.substring(0, PREFIX_LENGTH));
+        apiKey.setKeyHash(apiKeyIndex.hash(rawKey));
+        apiKeyRepository.save(apiKey);
+        AfterCommit.run(() -> apiKeyIndex.add(apiKey));
+
+        ApiKeyShowDTO result = mapper.map(apiKey);
+        result.setKey(rawKey);
+        return result;
+    }
+
+    /**
+     * Revokes a key of a user.
+     * The key is removed from the in-memory index once the delete has committed.
+     *
+     * @param userId the ID of the user
+     * @param id the ID of the key
+     */
+    @Transactional
+    public void delete(long userId, long id) {
+        ApiKey apiKey = apiKeyRepository.findByIdAndUserId(id, userId).orElseThrow();
+        apiKeyRepository.delete(apiKey);
+        AfterCommit.run(() -> apiKeyIndex.remove(apiKey.getKeyHash()));
+    }
+}
@@ -2,38 +2,87 @@ package hexlet.code.service;
 
 import hexlet.code.dto.label.LabelCreateDTO;
 import hexlet.code.dto.label.LabelShowDTO;
+import hexlet.code.dto.label.LabelTasksDTO;
+import hexlet.code.dto.label.LabelTasksResultDTO;
 import hexlet.code.dto.label.LabelUpdateDTO;
+import hexlet.code.event.TaskLabelsMergedEvent;
+import hexlet.code.exception.EntityInUseException;
+import hexlet.code.exception.UnresolvedReferencesException;
 import hexlet.code.mapper.LabelMapper;
 import hexlet.code.model.Label;
 import hexlet.code.repository.LabelRepository;
+import hexlet.code.repository.TaskRepository;
+import hexlet.code.specification.TaskSpecification;
+import hexlet.code.util.AfterCommit;
 import lombok.AllArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+/**
+ * Service class responsible for label operations.
+ */
 @Service
 @AllArgsConstructor
-public final class LabelService {
+public class LabelService {
 
     private final LabelRepository labelRepository;
+    private final TaskRepository taskRepository;
+    private final TaskSpecification taskSpecification;
     private final LabelMapper mapper;
+    private final ApplicationEventPublisher eventPublisher;
 
+    /**
+     * Retrieves all labels.
+     *
+     * @return list of all labels as DTOs
+     */
+    @Transactional(readOnly = true)
     public List<LabelShowDTO> getAll() {
         List<Label> labels = labelRepository.findAll();
         return labels.stream().map(mapper::map).toList();
     }
 
+    /**
+     * Retrieves a label by ID.
+     *
+     * @param id the ID of the label
+     * @return the label as a DTO
+     */
+    @Transactional(readOnly = true)
     public LabelShowDTO getById(long id) {
         Label label = labelRepository.findById(id).orElseThrow();
         return mapper.map(label);
     }
 
+    /**
+     * Creates a new label from the provided DTO.
+     *
+     * @param data the DTO containing label creation data
+     * @return the created label as a DTO
+     */
+    @Transactional
     public LabelShowDTO create(LabelCreateDTO data) {
         Label label = mapper.map(data);
         labelRepository.save(label);
         return mapper.map(label);
     }
 
+    /**
+     * Updates an existing label with the fields present in the DTO.
+     *
+     * @param data the DTO containing update data
+     * @param id the ID of the label to update
+     * @return the updated label as a DTO
+     */
+    @Transactional
     public LabelShowDTO update(LabelUpdateDTO data, long id) {
         Label label = labelRepository.findById(id).orElseThrow();
         mapper.update(data, label);
@@ -41,7 +90,90 @@ public final class LabelService {
         return mapper.map(label);
     }
 
-    public void deleteById(long id) {
-        labelRepository.deleteById(id);
+    /**
+     * Deletes a label by ID.
+     * A label still attached to tasks is deleted only when it is merged into another label:
+     * its links are moved with one UPDATE statement, and the links of tasks that already have
+     * the other label are dropped with one DELETE statement, whatever the number of tasks.
+     * The label, the label merged into and the links are locked first, in ID order, so no link can be added
+     * to the deleted label or moved to a label that is being deleted meanwhile;
+     * a {@link TaskLabelsMergedEvent} published after commit lists the affected tasks.
+     *
+     * @param id the ID of the label to delete
+     * @param mergeInto the ID of the label to attach the tasks to instead, or null
+     * @throws EntityInUseException if the label is attached to tasks and no label to merge into is given
+     * @throws UnresolvedReferencesException if the label to merge into does not exist or is the deleted label
+     */
+    @Transactional
+    public void deleteById(long id, Long mergeInto) {
+        Map<Long, Label> locked = labelRepository
+                .findLockedByIdInOrderById(mergeInto == null ? List.of(id) : List.of(id, mergeInto)).stream()
+                .collect(Collectors.toMap(Label::getId, Function.identity()));
+        Label label = locked.get(id);
+        if (mergeInto != null) {
+            if (mergeInto == id || !locked.containsKey(mergeInto)) {
+                throw new UnresolvedReferencesException(Map.of("mergeInto", List.of(mergeInto)));
+            }
+            if (label != null) {
+                List<Long> taskIds = labelRepository.lockTaskIds(id);
+                if (!taskIds.isEmpty()) {
+                    labelRepository.moveTaskLinks(id, mergeInto);
+                    labelRepository.deleteTaskLinks(id);
+                    TaskLabelsMergedEvent event = new TaskLabelsMergedEvent(id, mergeInto, taskIds);
+                    AfterCommit.run(() -> eventPublisher.publishEvent(event));
+                }
+            }
+        } else if (label != null && taskRepository.existsByLabelsId(id)) {
+            throw new EntityInUseException("Label with id = " + id + " is attached to tasks");
+        }
+        if (label != null) {
+            labelRepository.delete(label);
+        }
+    }
+
+    /**
+     * Attaches a label to the selected tasks without loading them.
+     * The join rows are inserted in batches, skipping the tasks that already have the label.
+     *
+     * @param id the ID of the label
+     * @param data the task IDs or the filter selecting the tasks
+     * @return the number of selected tasks and the number of tasks the label was attached to
+     * @throws NoSuchElementException if the label is not found
+     */
+    @Transactional
+    public LabelTasksResultDTO attachToTasks(long id, LabelTasksDTO data) {
+        Collection<Long> taskIds = selectTasks(id, data);
+        return result(taskIds, labelRepository.attachToTasks(id, taskIds));
+    }
+
+    /**
+     * Detaches a label from the selected tasks without loading them.
+     * The join rows are deleted in batches.
+     *
+     * @param id the ID of the label
+     * @param data the task IDs or the filter selecting the tasks
+     * @return the number of selected tasks and the number of tasks the label was detached from
+     * @throws NoSuchElementException if the label is not found
+     */
+    @Transactional
+    public LabelTasksResultDTO detachFromTasks(long id, LabelTasksDTO data) {
+        Collection<Long> taskIds = selectTasks(id, data);
+        return result(taskIds, labelRepository.detachFromTasks(id, taskIds));
+    }
+
+    private Collection<Long> selectTasks(long labelId, LabelTasksDTO data) {
+        if (!labelRepository.existsById(labelId)) {
+            throw new NoSuchElementException("Label with id = " + labelId + " not found");
+        }
+        return data.getTaskIds() != null
+                ? data.getTaskIds()
+                : taskRepository.findIds(taskSpecification.build(data.getFilter()));
+    }
+
+    private static LabelTasksResultDTO result(Collection<Long> taskIds, int changed) {
+        LabelTasksResultDTO result = new LabelTasksResultDTO();
+        result.setMatched(taskIds.size());
+        result.setChanged(changed);
+        return result;
     }
 }
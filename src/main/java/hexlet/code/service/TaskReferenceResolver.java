@@ -0,0 +1,119 @@
+package hexlet.code.service;
+
+import hexlet.code.exception.UnresolvedReferencesException;
+import hexlet.code.model.Label;
+import hexlet.code.model.TaskStatus;
+import hexlet.code.model.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Resolves the entities a task refers to.
+ * All references are checked with one query; the entities are attached as lazy references,
+ * so none of them is loaded just to be linked to the task.
+ */
+@Component
+@AllArgsConstructor
+public class TaskReferenceResolver {
+
+    private static final String STATUS = "status";
+    private static final String ASSIGNEE = "assignee_id";
+    private static final String LABELS = "taskLabelIds";
+
+    private final EntityManager entityManager;
+
+    /**
+     * Resolved references of a task; a component is null when it was not asked for.
+     *
+     * @param status the task status
+     * @param assignee the assignee
+     * @param labels the labels
+     */
+    public record TaskReferences(TaskStatus status, User assignee, Set<Label> labels) {
+    }
+
+    /**
+     * Checks that the referenced entities exist and returns references to them.
+     *
+     * @param statusSlug the slug of the task status, or null
+     * @param assigneeId the ID of the assignee, or null
+     * @param labelIds the IDs of the labels, or null
+     * @return the references
+     * @throws UnresolvedReferencesException listing every reference that does not exist
+     */
+    public TaskReferences resolve(String statusSlug, Long assigneeId, Set<Long> labelIds) {
+        List<String> selects = new ArrayList<>();
+        if (statusSlug != null) {
+            selects.add("select '" + STATUS + "', s.id from TaskStatus s where s.slug = :slug");
+        }
+        if (assigneeId != null) {
+            selects.add("select '" + ASSIGNEE + "', u.id from User u where u.id = :assigneeId");
+        }
+        if (labelIds != null && !labelIds.isEmpty()) {
+            selects.add("select '" + LABELS + "', l.id from Label l where l.id in :labelIds");
+        }
+
+        Long statusId = null;
+        Set<Long> foundLabelIds = new HashSet<>();
+        boolean assigneeFound = false;
+        if (!selects.isEmpty()) {
+            TypedQuery<Object[]> query = entityManager.createQuery(String.join(" union all ", selects), Object[].class);
+            if (statusSlug != null) {
+                query.setParameter("slug", statusSlug);
+            }
+            if (assigneeId != null) {
+                query.setParameter("assigneeId", assigneeId);
+            }
+            if (labelIds != null && !labelIds.isEmpty()) {
+                query.setParameter("labelIds", labelIds);
+            }
+            for (Object[] row : query.getResultList()) {
+                long id = ((Number) row[1]).longValue();
+                switch ((String) row[0]) {
+                    case STATUS -> statusId = id;
+                    case ASSIGNEE -> assigneeFound = true;
+                    default -> foundLabelIds.add(id);
+                }
+            }
+        }
+
+        Map<String, Collection<?>> missing = new LinkedHashMap<>();
+        if (statusSlug != null && statusId == null) {
+            missing.put(STATUS, List.of(statusSlug));
+        }
+        if (assigneeId != null && !assigneeFound) {
+            missing.put(ASSIGNEE, List.of(assigneeId));
+        }
+        if (labelIds != null && !foundLabelIds.containsAll(labelIds)) {
+            Set<Long> missingLabels = new TreeSet<>(labelIds);
+            missingLabels.removeAll(foundLabelIds);
+            missing.put(LABELS, missingLabels);
+        }
+        if (!missing.isEmpty()) {
+            throw new UnresolvedReferencesException(missing);
+        }
+
+        Set<Label> labels = null;
+        if (labelIds != null) {
+            labels = new HashSet<>();
+            for (Long labelId : labelIds) {
+                labels.add(entityManager.getReference(Label.class, labelId));
+            }
+        }
+        return new TaskReferences(
+                statusId == null ? null : entityManager.getReference(TaskStatus.class, statusId),
+                assigneeId == null ? null : entityManager.getReference(User.class, assigneeId),
+                labels);
+    }
+}
@@ -4,49 +4,210 @@ import hexlet.code.dto.task.TaskCreateDTO;
 import hexlet.code.dto.task.TaskShowDTO;
 import hexlet.code.dto.task.TaskParamsDTO;
 import hexlet.code.dto.task.TaskUpdateDTO;
+import hexlet.code.jfr.TaskQueryEvent;
+import hexlet.code.mapper.JsonNullableMapper;
 import hexlet.code.mapper.TaskMapper;
+import hexlet.code.model.Label;
 import hexlet.code.model.Task;
+import hexlet.code.service.TaskReferenceResolver.TaskReferences;
 import hexlet.code.repository.TaskRepository;
 import hexlet.code.specification.TaskSpecification;
 import lombok.AllArgsConstructor;
+import org.openapitools.jackson.nullable.JsonNullable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.stream.Collectors;
 
+/**
+ * Service class responsible for task operations.
+ */
 @Service
 @AllArgsConstructor
-public final class TaskService {
+public class TaskService {
 
     private final TaskRepository taskRepository;
+    private final TaskReferenceResolver referenceResolver;
     private final TaskMapper mapper;
+    private final JsonNullableMapper nullableMapper;
     private final TaskSpecification specBuilder;
 
+    /**
+     * Retrieves the tasks matching the given filter.
+     *
+     * @param params the filter parameters
+     * @return list of matching tasks as DTOs
+     */
+    @Transactional(readOnly = true)
     public List<TaskShowDTO> getAll(TaskParamsDTO params) {
+        TaskQueryEvent event = new TaskQueryEvent();
+        event.begin();
         Specification<Task> spec = specBuilder.build(params);
         List<Task> tasks = taskRepository.findAll(spec);
-        return tasks.stream().map(mapper::map).toList();
+        List<TaskShowDTO> result = tasks.stream().map(mapper::map).toList();
+        if (event.shouldCommit()) {
+            event.setFilter(filterShape(params));
+            event.setRows(result.size());
+            event.commit();
+        }
+        return result;
     }
 
+    /**
+     * Retrieves a task by ID.
+     *
+     * @param id the ID of the task
+     * @return the task as a DTO
+     */
+    @Transactional(readOnly = true)
     public TaskShowDTO getById(long id) {
         Task task = taskRepository.findById(id).orElseThrow();
         return mapper.map(task);
     }
 
+    /**
+     * Creates a new task from the provided DTO.
+     *
+     * @param data the DTO containing task creation data
+     * @return the created task as a DTO
+     * @throws hexlet.code.exception.UnresolvedReferencesException if a referenced entity does not exist
+     */
+    @Transactional
     public TaskShowDTO create(TaskCreateDTO data) {
+        TaskReferences references = referenceResolver.resolve(
+                data.getStatus(), data.getAssigneeId(), data.getTaskLabelIds());
         Task task = mapper.map(data);
+        task.setTaskStatus(references.status());
+        task.setAssignee(references.assignee());
+        if (references.labels() != null) {
+            task.setLabels(references.labels());
+        }
         taskRepository.save(task);
         return mapper.map(task);
     }
 
+    /**
+     * Updates an existing task with the fields present in the DTO.
+     *
+     * @param data the DTO containing update data
+     * @param id the ID of the task to update
+     * @return the updated task as a DTO
+     * @throws hexlet.code.exception.UnresolvedReferencesException if a referenced entity does not exist
+     */
+    @Transactional
     public TaskShowDTO update(TaskUpdateDTO data, long id) {
         Task task = taskRepository.findById(id).orElseThrow();
         mapper.update(data, task);
+        updateReferences(task, data);
         taskRepository.save(task);
         return mapper.map(task);
     }
 
+    /**
+     * Applies a partial update, writing only the changed columns.
+     * Changes of title, content and index alone are written with one UPDATE, without loading the task;
+     * a field sent as null is written as null.
+     * Otherwise the task is loaded and changed in place; labels are added and removed one by one,
+     * so only the changed rows of the join table are written.
+     *
+     * @param data the DTO containing the fields to change
+     * @param id the ID of the task to update
+     * @throws NoSuchElementException if the task is not found
+     * @throws hexlet.code.exception.UnresolvedReferencesException if a referenced entity does not exist
+     */
+    @Transactional
+    public void patch(TaskUpdateDTO data, long id) {
+        boolean associations = nullableMapper.isPresent(data.getStatus())
+                || nullableMapper.isPresent(data.getAssigneeId())
+                || nullableMapper.isPresent(data.getTaskLabelIds());
+        if (!associations) {
+            Map<String, Object> attributes = new LinkedHashMap<>();
+            putIfPresent(attributes, "name", data.getTitle());
+            putIfPresent(attributes, "description", data.getContent());
+            putIfPresent(attributes, "index", data.getIndex());
+            boolean found = attributes.isEmpty()
+                    ? taskRepository.existsById(id)
+                    : taskRepository.updateAttributes(id, attributes) > 0;
+            if (!found) {
+                throw new NoSuchElementException("Task with id = " + id + " not found");
+            }
+            return;
+        }
+
+        Task task = taskRepository.findById(id)
+                .orElseThrow(() -> new NoSuchElementException("Task with id = " + id + " not found"));
+        mapper.update(data, task);
+        updateReferences(task, data);
+    }
+
+    /**
+     * Deletes a task by ID.
+     *
+     * @param id the ID of the task to delete
+     */
+    @Transactional
     public void deleteById(long id) {
         taskRepository.deleteById(id);
     }
+
+    /**
+     * Adds the attribute when the field was sent, including an explicit null that clears the column.
+     *
+     * @param attributes the attributes to write
+     * @param name the attribute name
+     * @param value the field of the request
+     */
+    private void putIfPresent(Map<String, Object> attributes, String name, JsonNullable<?> value) {
+        if (nullableMapper.isPresent(value)) {
+            attributes.put(name, value.get());
+        }
+    }
+
+    private void updateReferences(Task task, TaskUpdateDTO data) {
+        Set<Long> labelIds = nullableMapper.isPresent(data.getTaskLabelIds()) ? data.getTaskLabelIds().get() : null;
+        TaskReferences references = referenceResolver.resolve(
+                nullableMapper.unwrap(data.getStatus()), nullableMapper.unwrap(data.getAssigneeId()), labelIds);
+        if (references.status() != null) {
+            task.setTaskStatus(references.status());
+        }
+        if (nullableMapper.isPresent(data.getAssigneeId())) {
+            task.setAssignee(references.assignee());
+        }
+        if (nullableMapper.isPresent(data.getTaskLabelIds())) {
+            updateLabels(task, references.labels() == null ? Set.of() : references.labels());
+        }
+    }
+
+    private static void updateLabels(Task task, Set<Label> labels) {
+        Set<Long> wanted = labels.stream().map(Label::getId).collect(Collectors.toSet());
+        task.getLabels().removeIf(label -> !wanted.contains(label.getId()));
+        Set<Long> current = task.getLabels().stream().map(Label::getId).collect(Collectors.toSet());
+        labels.stream()
+                .filter(label -> !current.contains(label.getId()))
+                .forEach(task.getLabels()::add);
+    }
+
+    private static String filterShape(TaskParamsDTO params) {
+        StringJoiner shape = new StringJoiner(",");
+        if (params.getTitleCont() != null) {
+            shape.add("titleCont");
+        }
+        if (params.getAssigneeId() != null) {
+            shape.add("assigneeId");
+        }
+        if (params.getStatus() != null) {
+            shape.add("status");
+        }
+        if (params.getLabelId() != null) {
+            shape.add("labelId");
+        }
+        return shape.length() == 0 ? "none" : shape.toString();
+    }
 }
@@ -2,31 +2,70 @@ package hexlet.code.service;
 
 import hexlet.code.dto.taskstatus.TaskStatusCreateDTO;
 import hexlet.code.dto.taskstatus.TaskStatusShowDTO;
+import hexlet.code.dto.taskstatus.TaskStatusTransitionDTO;
 import hexlet.code.dto.taskstatus.TaskStatusUpdateDTO;
+import hexlet.code.event.TasksTransitionedEvent;
+import hexlet.code.exception.EntityInUseException;
+import hexlet.code.exception.UnresolvedReferencesException;
 import hexlet.code.mapper.TaskStatusMapper;
 import hexlet.code.model.TaskStatus;
+import hexlet.code.repository.TaskRepository;
 import hexlet.code.repository.TaskStatusRepository;
+import hexlet.code.util.AfterCommit;
 import lombok.AllArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+/**
+ * Service class responsible for task status operations.
+ */
 @Service
 @AllArgsConstructor
-public final class TaskStatusService {
+public class TaskStatusService {
     private TaskStatusMapper taskStatusMapper;
     private TaskStatusRepository taskStatusRepository;
+    private TaskRepository taskRepository;
+    private ApplicationEventPublisher eventPublisher;
 
+    /**
+     * Creates a new task status from the provided DTO.
+     *
+     * @param taskStatusCreateDTO the DTO containing task status creation data
+     * @return the created task status as a DTO
+     */
+    @Transactional
     public TaskStatusShowDTO create(TaskStatusCreateDTO taskStatusCreateDTO) {
         TaskStatus taskStatus = taskStatusMapper.map(taskStatusCreateDTO);
         return taskStatusMapper.map(taskStatusRepository.save(taskStatus));
     }
 
+    /**
+     * Retrieves all task statuses.
+     *
+     * @return list of all task statuses as DTOs
+     */
+    @Transactional(readOnly = true)
     public List<TaskStatusShowDTO> getAll() {
         return taskStatusRepository.findAll().stream().map(taskStatusMapper::map).toList();
     }
 
+    /**
+     * Retrieves a task status by ID.
+     *
+     * @param id the ID of the task status
+     * @return the task status as a DTO
+     * @throws UsernameNotFoundException if the task status is not found
+     */
+    @Transactional(readOnly = true)
     public TaskStatusShowDTO get(long id) {
         return taskStatusMapper.map(
                 taskStatusRepository.findById(id)
@@ -34,6 +73,15 @@ public final class TaskStatusService {
                                 "Task Status with id = " + id + " not found")));
     }
 
+    /**
+     * Updates an existing task status with the fields present in the DTO.
+     *
+     * @param id the ID of the task status to update
+     * @param taskStatusUpdateDTO the DTO containing update data
+     * @return the updated task status as a DTO
+     * @throws UsernameNotFoundException if the task status is not found
+     */
+    @Transactional
     public TaskStatusShowDTO update(long id, TaskStatusUpdateDTO taskStatusUpdateDTO) {
         TaskStatus taskStatus = taskStatusRepository.findById(id)
                 .orElseThrow(() -> new UsernameNotFoundException("Task Status with id = " + id + " not found"));
@@ -41,7 +89,85 @@ public final class TaskStatusService {
         return taskStatusMapper.map(taskStatusRepository.save(taskStatus));
     }
 
-    public void delete(long id) {
-        taskStatusRepository.deleteById(id);
+    /**
+     * Deletes a task status by ID.
+     * A status still used by tasks is deleted only when a replacement is given: its tasks are moved
+     * to the replacement with one UPDATE statement, whatever their number, and a {@link TasksTransitionedEvent}
+     * published after commit lists the moved tasks. The status, the replacement and the moved tasks are locked
+     * first, in ID order, so no task can be added to the status or moved to a replacement that is being deleted
+     * meanwhile.
+     *
+     * @param id the ID of the task status to delete
+     * @param reassignTo the ID of the status to move the tasks to, or null
+     * @throws EntityInUseException if the status is used by tasks and no replacement is given
+     * @throws UnresolvedReferencesException if the replacement does not exist or is the deleted status
+     */
+    @Transactional
+    public void delete(long id, Long reassignTo) {
+        Map<Long, TaskStatus> locked = taskStatusRepository
+                .findLockedByIdInOrderById(reassignTo == null ? List.of(id) : List.of(id, reassignTo)).stream()
+                .collect(Collectors.toMap(TaskStatus::getId, Function.identity()));
+        TaskStatus source = locked.get(id);
+        if (reassignTo != null) {
+            TaskStatus target = locked.get(reassignTo);
+            if (target == null || reassignTo == id) {
+                throw new UnresolvedReferencesException(Map.of("reassignTo", List.of(reassignTo)));
+            }
+            if (source != null) {
+                List<Long> taskIds = taskRepository.lockIdsByStatus(source, null, null);
+                if (!taskIds.isEmpty()) {
+                    taskRepository.updateStatus(source, target, null, null);
+                    TasksTransitionedEvent event =
+                            new TasksTransitionedEvent(source.getSlug(), target.getSlug(), taskIds);
+                    AfterCommit.run(() -> eventPublisher.publishEvent(event));
+                }
+            }
+        } else if (source != null && taskRepository.existsByTaskStatusId(id)) {
+            throw new EntityInUseException("Task Status with id = " + id + " is used by tasks");
+        }
+        if (source != null) {
+            taskStatusRepository.delete(source);
+        }
+    }
+
+    /**
+     * Moves every task in one status to another with a single UPDATE statement, without loading the tasks.
+     * The source status is locked, so no task can enter it meanwhile, and the matching tasks are locked
+     * before the update, so the {@link TasksTransitionedEvent} published after commit lists exactly the moved tasks.
+     *
+     * @param from the slug of the status to move the tasks from
+     * @param to the slug of the status to move the tasks to
+     * @param assigneeId the ID of the assignee to restrict the move to, or null for any
+     * @param labelId the ID of a label the moved tasks must have, or null for any
+     * @return the statuses and the number of moved tasks
+     * @throws UnresolvedReferencesException if either status does not exist
+     */
+    @Transactional
+    public TaskStatusTransitionDTO transition(String from, String to, Long assigneeId, Long labelId) {
+        TaskStatus source = taskStatusRepository.findLockedBySlug(from).orElse(null);
+        TaskStatus target = taskStatusRepository.findBySlug(to).orElse(null);
+        Map<String, Collection<?>> missing = new LinkedHashMap<>();
+        if (source == null) {
+            missing.put("from", List.of(from));
+        }
+        if (target == null) {
+            missing.put("to", List.of(to));
+        }
+        if (!missing.isEmpty()) {
+            throw new UnresolvedReferencesException(missing);
+        }
+
+        TaskStatusTransitionDTO result = new TaskStatusTransitionDTO();
+        result.setFrom(from);
+        result.setTo(to);
+        if (source.getId() == target.getId()) {
+            return result;
+        }
+        List<Long> taskIds = taskRepository.lockIdsByStatus(source, assigneeId, labelId);
+        if (!taskIds.isEmpty()) {
+            result.setCount(taskRepository.updateStatus(source, target, assigneeId, labelId));
+            AfterCommit.run(() -> eventPublisher.publishEvent(new TasksTransitionedEvent(from, to, taskIds)));
+        }
+        return result;
     }
 }
@@ -6,11 +6,15 @@ import hexlet.code.dto.user.UserShowDTO;
 import hexlet.code.dto.user.UserUpdateDTO;
 import hexlet.code.mapper.UserMapper;
 import hexlet.code.model.User;
+import hexlet.code.security.ApiKeyIndex;
+import hexlet.code.security.CredentialCache;
+import hexlet.code.util.AfterCommit;
 import lombok.AllArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.provisioning.UserDetailsManager;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -33,6 +37,16 @@ public class UserService implements UserDetailsManager {
      */
     private UserRepository userRepository;
 
+    /**
+     * Cache of verified credentials, invalidated whenever a user changes.
+     */
+    private CredentialCache credentialCache;
+
+    /**
+     * In-memory index of API keys, kept in sync with user changes.
+     */
+    private ApiKeyIndex apiKeyIndex;
+
     /**
      * Creates a new user from the provided DTO.
      * Maps the DTO to a User entity, saves it to the database, and returns the result as a DTO.
@@ -40,6 +54,7 @@ public class UserService implements UserDetailsManager {
      * @param userCreateDTO the DTO containing user creation data
      * @return the created user as a DTO
      */
+    @Transactional
     public UserShowDTO create(UserCreateDTO userCreateDTO) {
         User user = userMapper.map(userCreateDTO);
         return userMapper.map(userRepository.save(user));
@@ -51,6 +66,7 @@ public class UserService implements UserDetailsManager {
      *
      * @return list of all users as DTOs
      */
+    @Transactional(readOnly = true)
     public List<UserShowDTO> getAll() {
         return userRepository.findAll().stream().map(userMapper::map).toList();
     }
@@ -63,6 +79,7 @@ public class UserService implements UserDetailsManager {
      * @return the user as a DTO
      * @throws UsernameNotFoundException if the user is not found
      */
+    @Transactional(readOnly = true)
     public UserShowDTO get(long id) {
         return userMapper.map(
                 userRepository.findById(id)
@@ -71,6 +88,8 @@ public class UserService implements UserDetailsManager {
 
     /**
      * Updates an existing user.
+     * Drops the cached credentials of the user once the change has committed,
+     * so a changed email or password takes effect immediately and a rolled-back change has no effect.
      * Throws UsernameNotFoundException if the user is not found.
      *
      * @param id the ID of the user to update
@@ -78,20 +97,53 @@ public class UserService implements UserDetailsManager {
      * @return the updated user as a DTO
      * @throws UsernameNotFoundException if the user is not found
      */
+    @Transactional
     public UserShowDTO update(long id, UserUpdateDTO userUpdateDTO) {
-        User user = userRepository.findById(id)
-                .orElseThrow(() -> new UsernameNotFoundException("User with id = " + id + " not found"));
-        userMapper.update(userUpdateDTO, user);
-        return userMapper.map(userRepository.save(user));
+        return userMapper.map(userRepository.save(apply(id, userUpdateDTO)));
+    }
+
+    /**
+     * Applies a partial update to a user; only the changed columns are written on commit.
+     * Drops the cached credentials of the user, like {@link #update(long, UserUpdateDTO)}.
+     *
+     * @param id the ID of the user to update
+     * @param userUpdateDTO the DTO containing the fields to change
+     * @throws UsernameNotFoundException if the user is not found
+     */
+    @Transactional
+    public void patch(long id, UserUpdateDTO userUpdateDTO) {
+        apply(id, userUpdateDTO);
     }
 
     /**
-     * Deletes a user by ID.
+     * Deletes a user by ID and, once the delete has committed, drops the cached credentials and API keys of the user.
+     * The API key rows are removed by the database through the cascading foreign key.
      *
      * @param id the ID of the user to delete
      */
+    @Transactional
     public void delete(long id) {
-        userRepository.deleteById(id);
+        userRepository.findById(id).ifPresent(user -> {
+            String email = user.getEmail();
+            userRepository.delete(user);
+            AfterCommit.run(() -> {
+                apiKeyIndex.removeUser(id);
+                credentialCache.evict(email);
+            });
+        });
+    }
+
+    private User apply(long id, UserUpdateDTO userUpdateDTO) {
+        User user = userRepository.findById(id)
+                .orElseThrow(() -> new UsernameNotFoundException("User with id = " + id + " not found"));
+        String email = user.getEmail();
+        userMapper.update(userUpdateDTO, user);
+        String newEmail = user.getEmail();
+        AfterCommit.run(() -> {
+            credentialCache.evict(email);
+            apiKeyIndex.updateEmail(id, newEmail);
+        });
+        return user;
     }
 
     /**
@@ -7,6 +7,8 @@ import lombok.AllArgsConstructor;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
+import java.util.NoSuchElementException;
+
 /**
  * Component class implementing dynamic query specifications for Task entities.
  * Uses Spring Data JPA Specifications API to build flexible search criteria.
@@ -51,16 +53,23 @@ public class TaskSpecification {
     /**
      * Creates a Specification for filtering tasks by label ID.
      * Returns a conjunction if labelId is null.
-     * Uses JPA's isMember() predicate to check label membership.
+     * Joins the label IDs instead of testing membership per task, so the query is driven
+     * by the label index of the join table.
      *
      * @param labelId the ID of the label to filter by
      * @return the Specification for label filtering
+     * @throws NoSuchElementException if the label does not exist
      */
     private Specification<Task> withLabelId(Long labelId) {
-        return (root, query, criteriaBuilder) -> labelId == null
-                ? criteriaBuilder.conjunction()
-                : criteriaBuilder.isMember(labelRepository.findById(labelId).orElseThrow(),
-                root.get("labels"));
+        return (root, query, criteriaBuilder) -> {
+            if (labelId == null) {
+                return criteriaBuilder.conjunction();
+            }
+            if (!labelRepository.existsById(labelId)) {
+                throw new NoSuchElementException("Label with id = " + labelId + " not found");
+            }
+            return criteriaBuilder.equal(root.join("labels").get("id"), labelId);
+        };
     }
 
     /**
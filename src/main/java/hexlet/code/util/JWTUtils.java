@@ -1,5 +1,6 @@
 package hexlet.code.util;
 
+import hexlet.code.component.FlightRecordingProperties;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.oauth2.jwt.JwtClaimsSet;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
@@ -22,22 +23,31 @@ public class JWTUtils {
     @Autowired
     private JwtEncoder encoder;
 
+    /**
+     * Flight recording settings naming the operators and their scope.
+     */
+    @Autowired
+    private FlightRecordingProperties flightRecordingProperties;
+
     /**
      * Generates a JWT token for the given username.
      * The token includes issuer, issued-at time, expiration time, and subject claims.
      * Token expires after 1 hour from creation.
+     * Tokens of flight recording operators also carry the scope of that endpoint.
      *
      * @param username the subject to include in the token
      * @return generated JWT token string
      */
     public String generateToken(String username) {
         Instant now = Instant.now();
-        JwtClaimsSet claims = JwtClaimsSet.builder()
+        JwtClaimsSet.Builder claims = JwtClaimsSet.builder()
                 .issuer("self")
                 .issuedAt(now)
                 .expiresAt(now.plus(1, ChronoUnit.HOURS))
-                .subject(username)
-                .build();
-        return this.encoder.encode(JwtEncoderParameters.from(claims)).getTokenValue();
+                .subject(username);
+        if (flightRecordingProperties.getOperators().contains(username)) {
+            claims.claim("scope", flightRecordingProperties.getScope());
+        }
+        return this.encoder.encode(JwtEncoderParameters.from(claims.build())).getTokenValue();
     }
 }
@@ -0,0 +1,24 @@
+package hexlet.code.warmup;
+
+/**
+ * Operations of the warm-up workload.
+ */
+public enum WarmUpOperation {
+    /**
+     * Authenticates the warm-up user in-process and issues a token, as {@code POST /api/login} does.
+     */
+    LOGIN,
+    /**
+     * {@code GET /api/tasks} over HTTP, with the configured query.
+     */
+    LIST,
+    /**
+     * {@code GET /api/tasks/{id}} over HTTP, for a task returned by the list.
+     */
+    SHOW,
+    /**
+     * Deserializes a task, creates it through the service and serializes the result,
+     * inside a transaction that is rolled back.
+     */
+    CREATE
+}
@@ -0,0 +1,222 @@
+package hexlet.code.warmup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.component.WarmUpProperties;
+import hexlet.code.dto.task.TaskCreateDTO;
+import hexlet.code.service.TaskService;
+import hexlet.code.util.JWTUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replays a synthetic workload after the context has started and before the application reports ready,
+ * so Jackson, Hibernate query plans, the mappers and the JWT path are compiled before real traffic arrives.
+ * Runs as the last application runner: Spring Boot only switches readiness to {@code ACCEPTING_TRAFFIC}
+ * once every runner has returned, so the readiness probe stays red until warm-up is done.
+ * List and show go over HTTP to the local port, through the whole filter and security chain;
+ * login and create run in-process, the latter in a transaction that is rolled back.
+ * The HTTP requests carry a token of the dedicated {@code warm-up.principal}, so they do not use up
+ * the rate limit of a real user.
+ * Disabled unless {@code warm-up.enabled} is set.
+ */
+@Slf4j
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+public final class WarmUpRunner implements ApplicationRunner {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final WarmUpProperties properties;
+    private final ApplicationContext applicationContext;
+    private final AuthenticationManager authenticationManager;
+    private final JWTUtils jwtUtils;
+    private final TaskService taskService;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Creates the runner.
+     *
+     * @param warmUpProperties the workload settings
+     * @param context the application context, for the local server port
+     * @param authentication the authentication manager the login operation goes through
+     * @param jwt the token issuer
+     * @param tasks the task service the create operation goes through
+     * @param transactionManager the transaction manager of the rolled back creates
+     * @param mapper the application object mapper
+     */
+    public WarmUpRunner(WarmUpProperties warmUpProperties, ApplicationContext context,
+                        AuthenticationManager authentication, JWTUtils jwt, TaskService tasks,
+                        PlatformTransactionManager transactionManager, ObjectMapper mapper) {
+        this.properties = warmUpProperties;
+        this.applicationContext = context;
+        this.authenticationManager = authentication;
+        this.jwtUtils = jwt;
+        this.taskService = tasks;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = mapper;
+    }
+
+    /**
+     * State carried between operations of the workload.
+     */
+    private static final class Session {
+        private final String baseUri;
+        private final HttpClient client = HttpClient.newHttpClient();
+        private final String createBody;
+        private String token;
+        private Long taskId;
+
+        private Session(String serverUri, String taskBody) {
+            this.baseUri = serverUri;
+            this.createBody = taskBody;
+        }
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws JsonProcessingException {
+        if (!properties.isEnabled() || properties.getIterations() <= 0 || properties.getOperations().isEmpty()) {
+            return;
+        }
+        Session session = new Session(baseUri(), objectMapper.writeValueAsString(Map.of(
+                "title", "warm-up",
+                "content", "created by the warm-up and rolled back",
+                "status", properties.getStatus())));
+        session.token = jwtUtils.generateToken(properties.getPrincipal());
+
+        Map<WarmUpOperation, long[]> latencies = new EnumMap<>(WarmUpOperation.class);
+        Map<WarmUpOperation, Integer> failures = new EnumMap<>(WarmUpOperation.class);
+        properties.getOperations().forEach(operation -> latencies.put(operation, new long[properties.getIterations()]));
+
+        long started = System.nanoTime();
+        long deadline = started + properties.getTimeout().toNanos();
+        int rounds = 0;
+        try (session.client) {
+            while (rounds < properties.getIterations() && System.nanoTime() < deadline) {
+                for (WarmUpOperation operation : latencies.keySet()) {
+                    long start = System.nanoTime();
+                    try {
+                        execute(operation, session);
+                    } catch (Exception e) {
+                        if (failures.merge(operation, 1, Integer::sum) == 1) {
+                            log.warn("Warm-up {} failed: {}", operation, e.toString());
+                        }
+                    }
+                    latencies.get(operation)[rounds] = System.nanoTime() - start;
+                }
+                rounds++;
+            }
+        }
+
+        log.info("Warm-up finished in {} ms: {} of {} rounds, failures={}",
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started), rounds, properties.getIterations(),
+                failures);
+        if (rounds == 0) {
+            return;
+        }
+        for (Map.Entry<WarmUpOperation, long[]> entry : latencies.entrySet()) {
+            long[] samples = entry.getValue();
+            int tail = Math.max(1, rounds / 10);
+            long[] last = Arrays.copyOfRange(samples, rounds - tail, rounds);
+            Arrays.sort(last);
+            log.info("Warm-up {}: first {} ms, median of the last {} rounds {} ms", entry.getKey(),
+                    millis(samples[0]), tail, millis(last[tail / 2]));
+        }
+    }
+
+    private void execute(WarmUpOperation operation, Session session) throws IOException, InterruptedException {
+        switch (operation) {
+            case LOGIN -> login(session);
+            case LIST -> list(session);
+            case SHOW -> show(session);
+            case CREATE -> create(session);
+            default -> throw new IllegalArgumentException(operation.name());
+        }
+    }
+
+    private void login(Session session) {
+        try {
+            authenticationManager.authenticate(
+                    new UsernamePasswordAuthenticationToken(properties.getUsername(), properties.getPassword()));
+        } catch (AuthenticationException e) {
+            // the token path is still worth warming; the list and show requests do not need a known user
+        }
+        session.token = jwtUtils.generateToken(properties.getPrincipal());
+    }
+
+    private void list(Session session) throws IOException, InterruptedException {
+        String query = properties.getListQuery().isEmpty() ? "" : "?" + properties.getListQuery();
+        HttpResponse<String> response = get(session, "/api/tasks" + query);
+        if (session.taskId == null && response.statusCode() == 200) {
+            JsonNode tasks = objectMapper.readTree(response.body());
+            if (!tasks.isEmpty()) {
+                session.taskId = tasks.get(0).get("id").asLong();
+            }
+        }
+    }
+
+    private void show(Session session) throws IOException, InterruptedException {
+        if (session.taskId != null) {
+            get(session, "/api/tasks/" + session.taskId);
+        }
+    }
+
+    private void create(Session session) throws JsonProcessingException {
+        TaskCreateDTO data = objectMapper.readValue(session.createBody, TaskCreateDTO.class);
+        transactionTemplate.executeWithoutResult(transaction -> {
+            transaction.setRollbackOnly();
+            try {
+                objectMapper.writeValueAsBytes(taskService.create(data));
+            } catch (JsonProcessingException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private HttpResponse<String> get(Session session, String path) throws IOException, InterruptedException {
+        if (session.baseUri == null) {
+            throw new IllegalStateException("No local web server to send requests to");
+        }
+        HttpRequest request = HttpRequest.newBuilder(URI.create(session.baseUri + path))
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + session.token)
+                .build();
+        return session.client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private String baseUri() {
+        if (applicationContext instanceof WebServerApplicationContext web && web.getWebServer() != null) {
+            return "http://localhost:" + web.getWebServer().getPort();
+        }
+        return null;
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.2f", nanos / NANOS_PER_MILLI);
+    }
+}
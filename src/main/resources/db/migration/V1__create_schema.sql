@@ -0,0 +1,50 @@
+-- Baseline: the schema previously created by hibernate.ddl-auto=update.
+-- Existing databases are baselined at this version (spring.flyway.baseline-on-migrate).
+
+CREATE TABLE users (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    first_name      VARCHAR(255),
+    last_name       VARCHAR(255),
+    email           VARCHAR(255) NOT NULL,
+    password_digest VARCHAR(255) NOT NULL,
+    created_at      TIMESTAMP(6),
+    updated_at      TIMESTAMP(6)
+);
+
+CREATE TABLE task_statuses (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name       VARCHAR(255) NOT NULL UNIQUE,
+    slug       VARCHAR(255) NOT NULL UNIQUE,
+    created_at TIMESTAMP(6)
+);
+
+CREATE TABLE labels (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name       VARCHAR(1000) UNIQUE,
+    created_at TIMESTAMP(6)
+);
+
+CREATE TABLE tasks (
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name           VARCHAR(255) NOT NULL,
+    index          INTEGER NOT NULL,
+    description    VARCHAR(255),
+    task_status_id BIGINT NOT NULL REFERENCES task_statuses (id),
+    assignee_id    BIGINT REFERENCES users (id),
+    created_at     TIMESTAMP(6)
+);
+
+CREATE TABLE tasks_labels (
+    task_id   BIGINT NOT NULL REFERENCES tasks (id),
+    labels_id BIGINT NOT NULL REFERENCES labels (id),
+    PRIMARY KEY (task_id, labels_id)
+);
+
+CREATE TABLE api_keys (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name       VARCHAR(100) NOT NULL,
+    prefix     VARCHAR(255) NOT NULL,
+    key_hash   VARCHAR(64) NOT NULL UNIQUE,
+    user_id    BIGINT NOT NULL REFERENCES users (id) ON DELETE CASCADE,
+    created_at TIMESTAMP(6)
+);
@@ -0,0 +1,16 @@
+-- Login and UserUtils.getCurrentUser: UserRepository.findByEmail.
+CREATE INDEX idx_users_email ON users (email);
+
+-- TaskSpecification: assignee filter alone and combined with the status filter;
+-- also serves the assignee foreign key on user deletion.
+CREATE INDEX idx_tasks_assignee_status ON tasks (assignee_id, task_status_id);
+
+-- TaskSpecification status filter, TaskRepository.findAllByTaskStatus
+-- and the status foreign key on status deletion.
+CREATE INDEX idx_tasks_status ON tasks (task_status_id);
+
+-- TaskSpecification label filter and label deletion; the primary key covers lookups by task.
+CREATE INDEX idx_tasks_labels_label ON tasks_labels (labels_id, task_id);
+
+-- API keys listed per user and removed with the user.
+CREATE INDEX idx_api_keys_user ON api_keys (user_id);
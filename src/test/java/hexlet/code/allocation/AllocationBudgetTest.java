@@ -0,0 +1,184 @@
+package hexlet.code.allocation;
+
+import hexlet.code.mapper.TaskMapper;
+import hexlet.code.model.Label;
+import hexlet.code.model.Task;
+import hexlet.code.model.TaskStatus;
+import hexlet.code.model.User;
+import hexlet.code.repository.LabelRepository;
+import hexlet.code.repository.TaskRepository;
+import hexlet.code.repository.TaskStatusRepository;
+import hexlet.code.repository.UserRepository;
+import hexlet.code.util.AllocationMeter;
+import hexlet.code.util.InstanceGenerator;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Allocation budgets of the hot endpoints over a fixed dataset, measured per request on the test thread.
+ * Budgets are upper bounds on the median run; the measured numbers are written to
+ * {@code build/reports/allocation/endpoints.txt}, so a budget can be tightened after an optimization.
+ * The task list is budgeted per task, over the same request answering no tasks, so the fixed cost
+ * of a request does not hide a per-task regression.
+ * Each budget is the highest median of three runs plus 20%.
+ */
+@SpringBootTest(properties = {
+    "rate-limit.enabled=false",
+    "concurrency-limit.enabled=false",
+    "server-timing.enabled=false"
+})
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public final class AllocationBudgetTest {
+
+    private static final int TASKS = 1_000;
+    private static final int LABELS = 20;
+    private static final int WARM_UPS = 20;
+    private static final int RUNS = 15;
+    /**
+     * Measured: 221,760 bytes for the empty task list, 198,544 for a task and 206,496 for the statuses.
+     */
+    private static final long REQUEST_BUDGET = 266_000;
+    /**
+     * Measured: 11,225 bytes per listed task.
+     */
+    private static final long LIST_BYTES_PER_TASK_BUDGET = 13_500;
+    /**
+     * Measured: 280 bytes per mapped task.
+     */
+    private static final long MAP_BYTES_PER_CALL_BUDGET = 336;
+
+    private final List<AllocationMeter.Result> results = new ArrayList<>();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskStatusRepository statusRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private LabelRepository labelRepository;
+
+    @Autowired
+    private TaskMapper mapper;
+
+    private Task sample;
+
+    @BeforeAll
+    public void seed() {
+        taskRepository.deleteAll();
+        labelRepository.deleteAll();
+
+        SplittableRandom random = new SplittableRandom(42);
+        User user = userRepository.save(InstanceGenerator.getUser());
+        TaskStatus status = statusRepository.findBySlug("draft").orElseThrow();
+        List<Label> labels = labelRepository.saveAll(
+                Stream.generate(InstanceGenerator::getLabel).limit(LABELS).toList());
+
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < TASKS; i++) {
+            Task task = InstanceGenerator.getTask();
+            task.setTaskStatus(status);
+            task.setAssignee(user);
+            Set<Label> taskLabels = new HashSet<>();
+            for (int j = 0; j < 3; j++) {
+                taskLabels.add(labels.get(random.nextInt(LABELS)));
+            }
+            task.setLabels(taskLabels);
+            tasks.add(task);
+        }
+        sample = taskRepository.saveAll(tasks).getFirst();
+    }
+
+    @BeforeEach
+    public void setUp() {
+        assumeTrue(AllocationMeter.isSupported(), "per-thread allocation counters are not available");
+    }
+
+    @AfterAll
+    public void report() throws Exception {
+        AllocationMeter.write("endpoints", results);
+        taskRepository.deleteAll();
+    }
+
+    @Test
+    public void testListTasks() throws Exception {
+        AllocationMeter.Result empty = measure("GET /api/tasks (no tasks)", "/api/tasks?status=published");
+        AllocationMeter.Result full = measure("GET /api/tasks (1000 tasks)", "/api/tasks");
+
+        assertThat(empty.median()).isLessThanOrEqualTo(REQUEST_BUDGET);
+        assertThat((full.median() - empty.median()) / TASKS).isLessThanOrEqualTo(LIST_BYTES_PER_TASK_BUDGET);
+    }
+
+    @Test
+    public void testShowTask() throws Exception {
+        AllocationMeter.Result result = measure("GET /api/tasks/{id}", "/api/tasks/" + sample.getId());
+
+        assertThat(result.median()).isLessThanOrEqualTo(REQUEST_BUDGET);
+    }
+
+    @Test
+    public void testListTaskStatuses() throws Exception {
+        AllocationMeter.Result result = measure("GET /api/task_statuses", "/api/task_statuses");
+
+        assertThat(result.median()).isLessThanOrEqualTo(REQUEST_BUDGET);
+    }
+
+    @Test
+    public void testMapTask() throws Exception {
+        TaskMapper target = AopTestUtils.getUltimateTargetObject(mapper);
+        Task task = new Task();
+        task.setName("name");
+        Set<Label> taskLabels = new HashSet<>();
+        for (long id = 1_000; id < 1_003; id++) {
+            Label label = new Label();
+            label.setId(id);
+            taskLabels.add(label);
+        }
+        task.setLabels(taskLabels);
+        int calls = 1_000;
+
+        AllocationMeter.Result result = AllocationMeter.measure("TaskMapper.map x1000", WARM_UPS, RUNS, () -> {
+            for (int i = 0; i < calls; i++) {
+                target.map(task);
+            }
+        });
+        results.add(result);
+
+        assertThat(result.median() / calls).isLessThanOrEqualTo(MAP_BYTES_PER_CALL_BUDGET);
+    }
+
+    private AllocationMeter.Result measure(String name, String uri) throws Exception {
+        AllocationMeter.Result result = AllocationMeter.measure(name, WARM_UPS, RUNS, () ->
+                mockMvc.perform(get(uri).with(jwt())).andExpect(status().isOk()));
+        results.add(result);
+        return result;
+    }
+}
@@ -0,0 +1,47 @@
+package hexlet.code.component;
+
+import hexlet.code.model.TaskStatus;
+import hexlet.code.repository.TaskRepository;
+import hexlet.code.repository.TaskStatusRepository;
+import hexlet.code.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+public final class DataInitializerTest {
+
+    private static final List<String> SLUGS = List.of("draft", "to_review", "to_be_fixed", "to_publish", "published");
+
+    @Autowired
+    private DataInitializer dataInitializer;
+
+    @Autowired
+    private TaskStatusRepository statusRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    public void testRunIsIdempotent() {
+        taskRepository.deleteAll();
+        statusRepository.deleteAll();
+        statusRepository.save(new TaskStatus("draft", "draft"));
+
+        dataInitializer.run(new DefaultApplicationArguments());
+        dataInitializer.run(new DefaultApplicationArguments());
+
+        assertThat(statusRepository.findAllBySlugInOrNameIn(SLUGS, List.of()))
+                .extracting(TaskStatus::getSlug)
+                .containsExactlyInAnyOrderElementsOf(SLUGS);
+        assertThat(userRepository.existsByEmail("hexlet@example.com")).isTrue();
+    }
+}
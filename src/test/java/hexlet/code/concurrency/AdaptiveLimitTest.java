@@ -0,0 +1,99 @@
+package hexlet.code.concurrency;
+
+import hexlet.code.component.ConcurrencyLimitProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public final class AdaptiveLimitTest {
+
+    private static final long FAST = Duration.ofMillis(1).toNanos();
+    private static final long SLOW = Duration.ofMillis(10).toNanos();
+    private static final int MIN = 10;
+    private static final int MAX = 40;
+
+    private AdaptiveLimit limit;
+
+    @BeforeEach
+    public void setUp() {
+        ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties();
+        properties.setInitialLimit(20);
+        properties.setMinLimit(MIN);
+        properties.setMaxLimit(MAX);
+        // Every release closes a window, so each sample below is one recalculation.
+        properties.setSampleWindow(Duration.ZERO);
+        properties.setMinSamples(1);
+        limit = new AdaptiveLimit(properties);
+    }
+
+    @Test
+    public void testGrowsUnderSteadyLatencyUpToMax() {
+        List<Integer> limits = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            saturate();
+            limit.release(FAST);
+            limits.add(limit.getLimit());
+        }
+
+        assertThat(limits).isSorted();
+        assertThat(limits.getFirst()).isGreaterThanOrEqualTo(20);
+        assertThat(limits).allSatisfy(value -> assertThat(value).isBetween(MIN, MAX));
+        assertThat(limits.getLast()).isEqualTo(MAX);
+    }
+
+    @Test
+    public void testDoesNotGrowWhenUnderused() {
+        for (int i = 0; i < 50; i++) {
+            assertThat(limit.tryAcquire()).isTrue();
+            limit.release(FAST);
+        }
+
+        assertThat(limit.getLimit()).isEqualTo(20);
+    }
+
+    @Test
+    public void testShrinksWhenLatencyRisesDownToMin() {
+        for (int i = 0; i < 50; i++) {
+            saturate();
+            limit.release(FAST);
+        }
+        while (limit.getInFlight() > 0) {
+            limit.release(FAST);
+        }
+        int before = limit.getLimit();
+
+        List<Integer> limits = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            assertThat(limit.tryAcquire()).isTrue();
+            limit.release(SLOW);
+            limits.add(limit.getLimit());
+        }
+
+        assertThat(limits).isSortedAccordingTo((a, b) -> Integer.compare(b, a));
+        assertThat(limits.getFirst()).isLessThan(before);
+        assertThat(limits).allSatisfy(value -> assertThat(value).isBetween(MIN, MAX));
+        assertThat(limits.getLast()).isEqualTo(MIN);
+    }
+
+    @Test
+    public void testRejectsAboveLimit() {
+        saturate();
+
+        assertThat(limit.getInFlight()).isEqualTo(limit.getLimit());
+        assertThat(limit.tryAcquire()).isFalse();
+        assertThat(limit.getRejected()).isEqualTo(2);
+    }
+
+    private void saturate() {
+        // acquire every free permit, so the limit is the bottleneck of the window
+        boolean acquired;
+        do {
+            acquired = limit.tryAcquire();
+        } while (acquired);
+    }
+}
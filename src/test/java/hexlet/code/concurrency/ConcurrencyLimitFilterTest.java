@@ -0,0 +1,52 @@
+package hexlet.code.concurrency;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+    "concurrency-limit.initial-limit=0",
+    "concurrency-limit.min-limit=0",
+    "concurrency-limit.retry-after=2s"
+})
+@AutoConfigureMockMvc
+public final class ConcurrencyLimitFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    public void testShedAboveLimit() throws Exception {
+        mockMvc.perform(get("/api/tasks").with(jwt()))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "2"));
+
+        double rejected = meterRegistry.get("http.concurrency.rejected")
+                .tag("group", ConcurrencyLimiter.READ)
+                .functionCounter()
+                .count();
+        assertThat(rejected).isGreaterThanOrEqualTo(1);
+        assertThat(meterRegistry.get("http.concurrency.inflight")
+                .tag("group", ConcurrencyLimiter.READ)
+                .gauge()
+                .value()).isZero();
+    }
+
+    @Test
+    public void testNonApiRequestsAreNotLimited() throws Exception {
+        mockMvc.perform(get("/index.html"))
+                .andExpect(status().isOk());
+    }
+}
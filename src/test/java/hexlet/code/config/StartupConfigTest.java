@@ -0,0 +1,45 @@
+package hexlet.code.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public final class StartupConfigTest {
+
+    private DefaultListableBeanFactory builtWithDefaults() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerBeanDefinition("sqlInstrumentationConfig",
+                new RootBeanDefinition(SqlInstrumentationConfig.class));
+        return beanFactory;
+    }
+
+    @Test
+    public void testMatchingPropertiesPass() {
+        assertThat(StartupConfig.aotMismatches(builtWithDefaults(), new MockEnvironment())).isEmpty();
+    }
+
+    @Test
+    public void testPropertyEnabledAfterBuildIsReported() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("jdbc-bulkhead.enabled", "true")
+                .withProperty("datasource-routing.enabled", "TRUE");
+
+        assertThat(StartupConfig.aotMismatches(builtWithDefaults(), environment))
+                .hasSize(2)
+                .anySatisfy(mismatch -> assertThat(mismatch).startsWith("jdbc-bulkhead.enabled"))
+                .anySatisfy(mismatch -> assertThat(mismatch).startsWith("datasource-routing.enabled"));
+    }
+
+    @Test
+    public void testPropertyDisabledAfterBuildIsReported() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("sql-instrumentation.enabled", "false");
+
+        assertThat(StartupConfig.aotMismatches(builtWithDefaults(), environment))
+                .singleElement()
+                .satisfies(mismatch -> assertThat(mismatch).startsWith("sql-instrumentation.enabled"));
+    }
+}
@@ -0,0 +1,169 @@
+package hexlet.code.controller.api;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.dto.apikey.ApiKeyCreateDTO;
+import hexlet.code.dto.user.UserUpdateDTO;
+import hexlet.code.model.User;
+import hexlet.code.repository.ApiKeyRepository;
+import hexlet.code.repository.TaskRepository;
+import hexlet.code.repository.UserRepository;
+import hexlet.code.security.ApiKeyAuthenticationFilter;
+import hexlet.code.service.UserService;
+import hexlet.code.util.InstanceGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.openapitools.jackson.nullable.JsonNullable;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.JwtRequestPostProcessor;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public final class ApiKeyControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ApiKeyRepository apiKeyRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper om;
+
+    private JwtRequestPostProcessor token;
+
+    private User testUser;
+
+    @BeforeEach
+    public void setUp() {
+        apiKeyRepository.deleteAll();
+        taskRepository.deleteAll();
+        userRepository.deleteAll();
+        testUser = InstanceGenerator.getUser();
+        userRepository.save(testUser);
+        token = jwt().jwt(builder -> builder.subject(testUser.getEmail()));
+    }
+
+    private JsonNode createKey(String name) throws Exception {
+        ApiKeyCreateDTO dto = new ApiKeyCreateDTO();
+        dto.setName(name);
+
+        MockHttpServletRequestBuilder request = post("/api/users/{id}/keys", testUser.getId())
+                .with(token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(om.writeValueAsString(dto));
+
+        MvcResult result = mockMvc.perform(request)
+                .andExpect(status().isCreated())
+                .andReturn();
+        return om.readTree(result.getResponse().getContentAsString());
+    }
+
+    @Test
+    public void testCreate() throws Exception {
+        JsonNode created = createKey("ci");
+
+        String key = created.get("key").asText();
+        assertThat(key).startsWith(created.get("prefix").asText());
+        assertThat(apiKeyRepository.findAll())
+                .singleElement()
+                .satisfies(apiKey -> assertThat(apiKey.getKeyHash()).doesNotContain(key));
+    }
+
+    @Test
+    public void testGetAll() throws Exception {
+        createKey("ci");
+
+        MvcResult result = mockMvc.perform(get("/api/users/{id}/keys", testUser.getId()).with(token))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        String body = result.getResponse().getContentAsString();
+        assertThatJson(body).isArray().singleElement().satisfies(element ->
+                assertThatJson(element)
+                        .and(v -> v.node("name").isEqualTo("ci"))
+                        .and(v -> v.node("key").isAbsent()));
+    }
+
+    @Test
+    public void testAuthenticateWithKey() throws Exception {
+        String key = createKey("ci").get("key").asText();
+
+        mockMvc.perform(get("/api/users").header(ApiKeyAuthenticationFilter.HEADER, key))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/users").header(ApiKeyAuthenticationFilter.HEADER, key + "x"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    public void testRevoke() throws Exception {
+        JsonNode created = createKey("ci");
+        String key = created.get("key").asText();
+
+        mockMvc.perform(delete("/api/users/{id}/keys/{keyId}", testUser.getId(), created.get("id").asLong())
+                        .with(token))
+                .andExpect(status().isNoContent());
+
+        assertThat(apiKeyRepository.count()).isZero();
+        mockMvc.perform(get("/api/users").header(ApiKeyAuthenticationFilter.HEADER, key))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    public void testCreateForAnotherUser() throws Exception {
+        User testUser2 = InstanceGenerator.getUser();
+        userRepository.save(testUser2);
+
+        ApiKeyCreateDTO dto = new ApiKeyCreateDTO();
+        dto.setName("ci");
+
+        mockMvc.perform(post("/api/users/{id}/keys", testUser2.getId())
+                        .with(token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsString(dto)))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    public void testRolledBackEmailChangeKeepsKeyOwner() throws Exception {
+        String key = createKey("ci").get("key").asText();
+
+        UserUpdateDTO data = new UserUpdateDTO();
+        data.setEmail(JsonNullable.of("changed-" + testUser.getEmail()));
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            userService.patch(testUser.getId(), data);
+            status.setRollbackOnly();
+        });
+
+        mockMvc.perform(get("/api/users/{id}/keys", testUser.getId()).header(ApiKeyAuthenticationFilter.HEADER, key))
+                .andExpect(status().isOk());
+    }
+}
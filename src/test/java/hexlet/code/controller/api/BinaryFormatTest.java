@@ -0,0 +1,102 @@
+package hexlet.code.controller.api;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import hexlet.code.model.Task;
+import hexlet.code.repository.TaskRepository;
+import hexlet.code.repository.TaskStatusRepository;
+import hexlet.code.util.InstanceGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public final class BinaryFormatTest {
+
+    private static final MediaType CBOR = MediaType.parseMediaType("application/cbor");
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskStatusRepository statusRepository;
+
+    private Task testTask;
+
+    @BeforeEach
+    public void setUp() {
+        taskRepository.deleteAll();
+        testTask = InstanceGenerator.getTask();
+        testTask.setDescription(null);
+        testTask.setTaskStatus(statusRepository.findBySlug("draft").orElseThrow());
+        taskRepository.save(testTask);
+    }
+
+    @Test
+    public void testGetAsCbor() throws Exception {
+        JsonNode task = getTask(CBOR, new CBORMapper());
+
+        assertThat(task.get("title").asText()).isEqualTo(testTask.getName());
+        assertThat(task.get("createdAt").isTextual()).isTrue();
+        assertThat(task.has("content")).isFalse();
+    }
+
+    @Test
+    public void testGetAsSmile() throws Exception {
+        JsonNode task = getTask(SMILE, new SmileMapper());
+
+        assertThat(task.get("title").asText()).isEqualTo(testTask.getName());
+        assertThat(task.get("createdAt").isTextual()).isTrue();
+        assertThat(task.has("content")).isFalse();
+    }
+
+    @Test
+    public void testJsonStaysDefault() throws Exception {
+        mockMvc.perform(get("/api/tasks/{id}", testTask.getId()).with(jwt()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    public void testCreateFromCbor() throws Exception {
+        byte[] body = new CBORMapper().writeValueAsBytes(Map.of("title", "cbor task", "status", "draft"));
+
+        mockMvc.perform(post("/api/tasks").with(jwt())
+                        .contentType(CBOR)
+                        .accept(CBOR)
+                        .content(body))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentTypeCompatibleWith(CBOR));
+
+        assertThat(taskRepository.findByName("cbor task")).isPresent();
+    }
+
+    private JsonNode getTask(MediaType mediaType, ObjectMapper mapper) throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/tasks/{id}", testTask.getId()).with(jwt()).accept(mediaType))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(mediaType))
+                .andReturn();
+        return mapper.readTree(result.getResponse().getContentAsByteArray());
+    }
+}
@@ -3,10 +3,14 @@ package hexlet.code.controller.api;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import hexlet.code.dto.label.LabelCreateDTO;
+import hexlet.code.event.TaskLabelsMergedEvent;
 import hexlet.code.mapper.LabelMapper;
 import hexlet.code.model.Label;
+import hexlet.code.model.Task;
+import hexlet.code.model.TaskStatus;
 import hexlet.code.repository.TaskRepository;
 import hexlet.code.repository.LabelRepository;
+import hexlet.code.repository.TaskStatusRepository;
 import hexlet.code.util.InstanceGenerator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,6 +18,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
@@ -22,6 +28,10 @@ import org.springframework.web.context.WebApplicationContext;
 
 import java.nio.charset.StandardCharsets;
 import java.time.format.DateTimeFormatter;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -36,6 +46,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 @SpringBootTest
 @AutoConfigureMockMvc
+@RecordApplicationEvents
 public final class LabelControllerTest {
 
     @Autowired
@@ -49,6 +60,12 @@ public final class LabelControllerTest {
     @Autowired
     private TaskRepository taskRepository;
 
+    @Autowired
+    private TaskStatusRepository statusRepository;
+
+    @Autowired
+    private ApplicationEvents events;
+
     @Autowired
     private LabelMapper mapper;
 
@@ -166,4 +183,125 @@ public final class LabelControllerTest {
 
         assertThat(labelRepository.existsById(testLabel.getId())).isEqualTo(false);
     }
+
+    @Test
+    public void testDeleteInUse() throws Exception {
+        labelRepository.save(testLabel);
+        saveTask(testLabel);
+
+        MockHttpServletRequestBuilder request = delete("/api/labels/{id}", testLabel.getId()).with(jwt());
+
+        mockMvc.perform(request)
+                .andExpect(status().isConflict());
+
+        assertThat(labelRepository.existsById(testLabel.getId())).isEqualTo(true);
+    }
+
+    @Test
+    public void testDeleteWithMerge() throws Exception {
+        labelRepository.save(testLabel);
+        Label target = labelRepository.save(InstanceGenerator.getLabel());
+        Task onlyDeleted = saveTask(testLabel);
+        Task both = saveTask(testLabel, target);
+
+        MockHttpServletRequestBuilder request = delete("/api/labels/{id}", testLabel.getId())
+                .param("mergeInto", String.valueOf(target.getId()))
+                .with(jwt());
+
+        mockMvc.perform(request)
+                .andExpect(status().isNoContent());
+
+        assertThat(labelRepository.existsById(testLabel.getId())).isEqualTo(false);
+        assertThat(taskRepository.findById(onlyDeleted.getId()).orElseThrow().getLabels())
+                .extracting(Label::getId).containsExactly(target.getId());
+        assertThat(taskRepository.findById(both.getId()).orElseThrow().getLabels())
+                .extracting(Label::getId).containsExactly(target.getId());
+        assertThat(events.stream(TaskLabelsMergedEvent.class))
+                .singleElement()
+                .satisfies(event -> assertThat(event.taskIds())
+                        .containsExactlyInAnyOrder(onlyDeleted.getId(), both.getId()));
+    }
+
+    @Test
+    public void testAttachToTasks() throws Exception {
+        labelRepository.save(testLabel);
+        Task labelled = saveTask(testLabel);
+        Task unlabelled = saveTask();
+
+        Map<String, Object> data = Map.of("taskIds", List.of(labelled.getId(), unlabelled.getId()));
+
+        MockHttpServletRequestBuilder request = post("/api/labels/{id}/tasks", testLabel.getId())
+                .with(jwt())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(om.writeValueAsString(data));
+
+        MvcResult result = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn();
+
+        assertThatJson(result.getResponse().getContentAsString()).and(
+                v -> v.node("matched").isEqualTo(2),
+                v -> v.node("changed").isEqualTo(1)
+        );
+        assertThat(taskRepository.findById(unlabelled.getId()).orElseThrow().getLabels())
+                .extracting(Label::getId).containsExactly(testLabel.getId());
+    }
+
+    @Test
+    public void testDetachFromTasksByFilter() throws Exception {
+        labelRepository.save(testLabel);
+        Task task = saveTask(testLabel);
+
+        Map<String, Object> data = Map.of("filter", Map.of("titleCont", task.getName().toLowerCase()));
+
+        MockHttpServletRequestBuilder request = delete("/api/labels/{id}/tasks", testLabel.getId())
+                .with(jwt())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(om.writeValueAsString(data));
+
+        MvcResult result = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn();
+
+        assertThatJson(result.getResponse().getContentAsString()).node("changed").isEqualTo(1);
+        assertThat(taskRepository.findById(task.getId()).orElseThrow().getLabels()).isEmpty();
+    }
+
+    @Test
+    public void testAttachToTasksWithoutSelection() throws Exception {
+        labelRepository.save(testLabel);
+
+        MockHttpServletRequestBuilder request = post("/api/labels/{id}/tasks", testLabel.getId())
+                .with(jwt())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{}");
+
+        mockMvc.perform(request)
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void testDetachFromTasksWithEmptyFilter() throws Exception {
+        labelRepository.save(testLabel);
+        Task task = saveTask(testLabel);
+
+        MockHttpServletRequestBuilder request = delete("/api/labels/{id}/tasks", testLabel.getId())
+                .with(jwt())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"filter\": {}}");
+
+        mockMvc.perform(request)
+                .andExpect(status().isBadRequest());
+
+        assertThat(taskRepository.findById(task.getId()).orElseThrow().getLabels())
+                .extracting(Label::getId).containsExactly(testLabel.getId());
+    }
+
+    private Task saveTask(Label... labels) {
+        TaskStatus status = statusRepository.save(InstanceGenerator.getTaskStatus());
+        Task task = InstanceGenerator.getTask();
+        task.setTaskStatus(status);
+        task.setLabels(new HashSet<>(Set.of(labels)));
+        return taskRepository.save(task);
+    }
 }
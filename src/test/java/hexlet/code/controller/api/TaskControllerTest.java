@@ -27,6 +27,8 @@ import org.springframework.web.context.WebApplicationContext;
 import java.nio.charset.StandardCharsets;
 import java.time.format.DateTimeFormatter;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -36,6 +38,7 @@ import static org.springframework.security.test.web.servlet.request.SecurityMock
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -201,6 +204,30 @@ public final class TaskControllerTest {
         assertThat(task.getLabels().contains(testLabel));
     }
 
+    @Test
+    public void testCreateWithUnknownReferences() throws Exception {
+        TaskCreateDTO dto = new TaskCreateDTO();
+        dto.setTitle(testTask.getName());
+        dto.setStatus("no_such_status");
+        dto.setTaskLabelIds(Set.of(testLabel.getId(), Long.MAX_VALUE));
+
+        MockHttpServletRequestBuilder request = post("/api/tasks")
+                .with(jwt())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(om.writeValueAsString(dto));
+
+        MvcResult result = mockMvc.perform(request)
+                .andExpect(status().isUnprocessableEntity())
+                .andReturn();
+
+        String body = result.getResponse().getContentAsString();
+        assertThatJson(body).and(
+                v -> v.node("missing.status").isArray().containsExactly("no_such_status"),
+                v -> v.node("missing.taskLabelIds").isArray().containsExactly(Long.MAX_VALUE)
+        );
+        assertThat(taskRepository.findByName(testTask.getName())).isEmpty();
+    }
+
     @Test
     public void testUpdate() throws Exception {
         taskRepository.save(testTask);
@@ -224,6 +251,108 @@ public final class TaskControllerTest {
         assertThat(task.getDescription()).isEqualTo(data.getContent());
     }
 
+    @Test
+    public void testPatchScalarFields() throws Exception {
+        taskRepository.save(testTask);
+
+        Map<String, Object> data = Map.of("title", "Patched title", "index", 42);
+
+        MockHttpServletRequestBuilder request = patch("/api/tasks/{id}", testTask.getId())
+                .with(jwt())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(om.writeValueAsString(data));
+
+        mockMvc.perform(request)
+                .andExpect(status().isNoContent());
+
+        Task task = taskRepository.findById(testTask.getId()).orElseThrow();
+
+        assertThat(task.getName()).isEqualTo("Patched title");
+        assertThat(task.getIndex()).isEqualTo(42);
+        assertThat(task.getDescription()).isEqualTo(testTask.getDescription());
+        assertThat(task.getTaskStatus().getId()).isEqualTo(testStatus.getId());
+        assertThat(task.getLabels()).extracting(Label::getId).containsExactly(testLabel.getId());
+    }
+
+    @Test
+    public void testPatchClearsFieldSentAsNull() throws Exception {
+        taskRepository.save(testTask);
+
+        mockMvc.perform(patch("/api/tasks/{id}", testTask.getId())
+                        .with(jwt())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"content\": null}"))
+                .andExpect(status().isNoContent());
+
+        Task task = taskRepository.findById(testTask.getId()).orElseThrow();
+
+        assertThat(task.getDescription()).isNull();
+        assertThat(task.getName()).isEqualTo(testTask.getName());
+    }
+
+    @Test
+    public void testUnassign() throws Exception {
+        taskRepository.save(testTask);
+
+        mockMvc.perform(put("/api/tasks/{id}", testTask.getId())
+                        .with(jwt())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"assignee_id\": null}"))
+                .andExpect(status().isOk());
+
+        Task task = taskRepository.findById(testTask.getId()).orElseThrow();
+
+        assertThat(task.getAssignee()).isNull();
+        assertThat(task.getName()).isEqualTo(testTask.getName());
+    }
+
+    @Test
+    public void testPatchUnassign() throws Exception {
+        taskRepository.save(testTask);
+
+        mockMvc.perform(patch("/api/tasks/{id}", testTask.getId())
+                        .with(jwt())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"assignee_id\": null}"))
+                .andExpect(status().isNoContent());
+
+        assertThat(taskRepository.findById(testTask.getId()).orElseThrow().getAssignee()).isNull();
+    }
+
+    @Test
+    public void testPatchRejectsNullTitle() throws Exception {
+        taskRepository.save(testTask);
+
+        mockMvc.perform(patch("/api/tasks/{id}", testTask.getId())
+                        .with(jwt())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": null}"))
+                .andExpect(status().isBadRequest());
+
+        assertThat(taskRepository.findById(testTask.getId()).orElseThrow().getName()).isEqualTo(testTask.getName());
+    }
+
+    @Test
+    public void testPatchLabels() throws Exception {
+        taskRepository.save(testTask);
+        Label otherLabel = labelRepository.save(InstanceGenerator.getLabel());
+
+        Map<String, Object> data = Map.of("taskLabelIds", List.of(otherLabel.getId()));
+
+        MockHttpServletRequestBuilder request = patch("/api/tasks/{id}", testTask.getId())
+                .with(jwt())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(om.writeValueAsString(data));
+
+        mockMvc.perform(request)
+                .andExpect(status().isNoContent());
+
+        Task task = taskRepository.findById(testTask.getId()).orElseThrow();
+
+        assertThat(task.getLabels()).extracting(Label::getId).containsExactly(otherLabel.getId());
+        assertThat(task.getName()).isEqualTo(testTask.getName());
+    }
+
     @Test
     public void testDelete() throws Exception {
         taskRepository.save(testTask);
@@ -3,8 +3,12 @@ package hexlet.code.controller.api;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import hexlet.code.dto.taskstatus.TaskStatusCreateDTO;
+import hexlet.code.event.TasksTransitionedEvent;
 import hexlet.code.mapper.TaskStatusMapper;
+import hexlet.code.model.Label;
+import hexlet.code.model.Task;
 import hexlet.code.model.TaskStatus;
+import hexlet.code.repository.LabelRepository;
 import hexlet.code.repository.TaskRepository;
 import hexlet.code.repository.TaskStatusRepository;
 import hexlet.code.util.InstanceGenerator;
@@ -14,6 +18,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
@@ -24,6 +30,7 @@ import java.nio.charset.StandardCharsets;
 import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -38,6 +45,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 @SpringBootTest
 @AutoConfigureMockMvc
+@RecordApplicationEvents
 public final class TaskStatusControllerTest {
 
     @Autowired
@@ -51,6 +59,12 @@ public final class TaskStatusControllerTest {
     @Autowired
     private TaskRepository taskRepository;
 
+    @Autowired
+    private LabelRepository labelRepository;
+
+    @Autowired
+    private ApplicationEvents events;
+
     @Autowired
     private TaskStatusMapper mapper;
 
@@ -197,4 +211,102 @@ public final class TaskStatusControllerTest {
 
         assertThat(statusRepository.existsById(testStatus.getId())).isEqualTo(false);
     }
+
+    @Test
+    public void testTransition() throws Exception {
+        statusRepository.save(testStatus);
+        TaskStatus published = statusRepository.save(InstanceGenerator.getTaskStatus());
+        Label label = labelRepository.save(InstanceGenerator.getLabel());
+
+        Task labelled = InstanceGenerator.getTask();
+        labelled.setTaskStatus(testStatus);
+        labelled.setLabels(Set.of(label));
+        taskRepository.save(labelled);
+        Task unlabelled = InstanceGenerator.getTask();
+        unlabelled.setTaskStatus(testStatus);
+        taskRepository.save(unlabelled);
+
+        MockHttpServletRequestBuilder request = post("/api/task_statuses/{from}/transition", testStatus.getSlug())
+                .param("to", published.getSlug())
+                .param("labelId", String.valueOf(label.getId()))
+                .with(jwt());
+
+        MvcResult result = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn();
+
+        assertThatJson(result.getResponse().getContentAsString()).node("count").isEqualTo(1);
+        assertThat(taskRepository.findById(labelled.getId()).orElseThrow().getTaskStatus().getSlug())
+                .isEqualTo(published.getSlug());
+        assertThat(taskRepository.findById(unlabelled.getId()).orElseThrow().getTaskStatus().getSlug())
+                .isEqualTo(testStatus.getSlug());
+        assertThat(events.stream(TasksTransitionedEvent.class))
+                .singleElement()
+                .satisfies(event -> assertThat(event.taskIds()).containsExactly(labelled.getId()));
+    }
+
+    @Test
+    public void testTransitionToUnknownStatus() throws Exception {
+        statusRepository.save(testStatus);
+
+        MockHttpServletRequestBuilder request = post("/api/task_statuses/{from}/transition", testStatus.getSlug())
+                .param("to", "no_such_status")
+                .with(jwt());
+
+        mockMvc.perform(request)
+                .andExpect(status().isUnprocessableEntity());
+    }
+
+    @Test
+    public void testTransitionReportsMissingStatusesInOrder() throws Exception {
+        MockHttpServletRequestBuilder request = post("/api/task_statuses/{from}/transition", "no_such_source")
+                .param("to", "no_such_target")
+                .with(jwt());
+
+        MvcResult result = mockMvc.perform(request)
+                .andExpect(status().isUnprocessableEntity())
+                .andReturn();
+
+        String body = result.getResponse().getContentAsString();
+        assertThatJson(body).node("missing").isObject().containsOnlyKeys("from", "to");
+        assertThat(body.indexOf("\"from\"")).isLessThan(body.indexOf("\"to\""));
+    }
+
+    @Test
+    public void testDeleteInUse() throws Exception {
+        statusRepository.save(testStatus);
+        Task task = InstanceGenerator.getTask();
+        task.setTaskStatus(testStatus);
+        taskRepository.save(task);
+
+        MockHttpServletRequestBuilder request = delete("/api/task_statuses/{id}", testStatus.getId()).with(jwt());
+
+        mockMvc.perform(request)
+                .andExpect(status().isConflict());
+
+        assertThat(statusRepository.existsById(testStatus.getId())).isEqualTo(true);
+    }
+
+    @Test
+    public void testDeleteWithReassign() throws Exception {
+        statusRepository.save(testStatus);
+        TaskStatus replacement = statusRepository.save(InstanceGenerator.getTaskStatus());
+        Task task = InstanceGenerator.getTask();
+        task.setTaskStatus(testStatus);
+        taskRepository.save(task);
+
+        MockHttpServletRequestBuilder request = delete("/api/task_statuses/{id}", testStatus.getId())
+                .param("reassignTo", String.valueOf(replacement.getId()))
+                .with(jwt());
+
+        mockMvc.perform(request)
+                .andExpect(status().isNoContent());
+
+        assertThat(statusRepository.existsById(testStatus.getId())).isEqualTo(false);
+        assertThat(taskRepository.findById(task.getId()).orElseThrow().getTaskStatus().getId())
+                .isEqualTo(replacement.getId());
+        assertThat(events.stream(TasksTransitionedEvent.class))
+                .singleElement()
+                .satisfies(event -> assertThat(event.taskIds()).containsExactly(task.getId()));
+    }
 }
@@ -10,12 +10,23 @@ import hexlet.code.util.UserUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
 
 import static org.assertj.core.api.Assertions.assertThat;
-
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -52,6 +63,9 @@ public final class UserControllerTest {
 
     private JwtRequestPostProcessor token;
 
+    @MockitoSpyBean
+    private PasswordEncoder passwordEncoder;
+
     @Autowired
     private UserUtils userUtils;
 
@@ -192,6 +206,30 @@ public final class UserControllerTest {
         assertThat(user.getLastName()).isEqualTo(testUser.getLastName());
     }
 
+    @Test
+    public void testPatch() throws Exception {
+        userRepository.save(testUser);
+
+        Map<String, String> dto = new HashMap<>();
+        dto.put("lastName", "Patched last name");
+        dto.put("password", "new-password");
+
+        MockHttpServletRequestBuilder request = patch("/api/users/{id}", testUser.getId())
+                .with(token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(om.writeValueAsString(dto));
+
+        mockMvc.perform(request)
+                .andExpect(status().isNoContent());
+
+        User user = userRepository.findById(testUser.getId()).get();
+
+        assertThat(user.getLastName()).isEqualTo(dto.get("lastName"));
+        assertThat(user.getFirstName()).isEqualTo(testUser.getFirstName());
+        assertThat(user.getEmail()).isEqualTo(testUser.getEmail());
+        assertThat(passwordEncoder.matches("new-password", user.getPasswordDigest())).isTrue();
+    }
+
     @Test
     public void testDelete() throws Exception {
         userRepository.save(testUser);
@@ -241,4 +279,51 @@ public final class UserControllerTest {
         assertThat(user.getFirstName()).isEqualTo(testUser.getFirstName());
         assertThat(user.getLastName()).isEqualTo(testUser.getLastName());
     }
+
+    @Test
+    public void testBasicAuthWithCachedCredentials() throws Exception {
+        String password = "secret-password";
+        UserCreateDTO dto = new UserCreateDTO();
+        dto.setEmail(testUser.getEmail());
+        dto.setPassword(password);
+        userService.create(dto);
+        clearInvocations(passwordEncoder);
+
+        mockMvc.perform(get("/api/users").with(httpBasic(testUser.getEmail(), password)))
+                .andExpect(status().isOk());
+        verify(passwordEncoder, times(1)).matches(eq(password), anyString());
+        clearInvocations(passwordEncoder);
+
+        mockMvc.perform(get("/api/users").with(httpBasic(testUser.getEmail(), password)))
+                .andExpect(status().isOk());
+        verify(passwordEncoder, never()).matches(any(), any());
+
+        mockMvc.perform(get("/api/users").with(httpBasic(testUser.getEmail(), "wrong-password")))
+                .andExpect(status().isUnauthorized());
+        verify(passwordEncoder, times(1)).matches(eq("wrong-password"), anyString());
+    }
+
+    @Test
+    public void testBasicAuthAfterEmailUpdate() throws Exception {
+        String password = "secret-password";
+        UserCreateDTO dto = new UserCreateDTO();
+        dto.setEmail(testUser.getEmail());
+        dto.setPassword(password);
+        long id = userService.create(dto).getId();
+
+        mockMvc.perform(get("/api/users").with(httpBasic(testUser.getEmail(), password)))
+                .andExpect(status().isOk());
+
+        Map<String, String> data = new HashMap<>();
+        data.put("email", "changed-" + testUser.getEmail());
+
+        mockMvc.perform(put("/api/users/{id}", id)
+                        .with(token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsString(data)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/users").with(httpBasic(testUser.getEmail(), password)))
+                .andExpect(status().isUnauthorized());
+    }
 }
@@ -0,0 +1,80 @@
+package hexlet.code.dataset;
+
+import hexlet.code.repository.LabelRepository;
+import hexlet.code.repository.TaskRepository;
+import hexlet.code.repository.UserRepository;
+import hexlet.code.util.InstanceGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+    "dataset.users=20",
+    "dataset.labels=10",
+    "dataset.tasks=500",
+    "dataset.batch-size=64"
+})
+@ActiveProfiles("seed")
+public final class DatasetGeneratorTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private LabelRepository labelRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${spring.flyway.placeholders.id_allocation_size:50}")
+    private int idAllocationSize;
+
+    @Test
+    public void testGeneratedCounts() {
+        assertThat(userRepository.count()).isEqualTo(21);
+        assertThat(labelRepository.count()).isEqualTo(10);
+        assertThat(taskRepository.count()).isEqualTo(500);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tasks_labels", Long.class)).isPositive();
+    }
+
+    @Test
+    public void testAssigneesAreSkewed() {
+        Long busiest = jdbcTemplate.queryForObject(
+                "SELECT MAX(c) FROM (SELECT COUNT(*) AS c FROM tasks GROUP BY assignee_id) t", Long.class);
+
+        assertThat(busiest).isGreaterThan(500L / 20 * 2);
+    }
+
+    /**
+     * Saves more users than one pooled block holds, so the block Hibernate cached before the dataset
+     * is used up and the next one comes from the sequence the dataset advanced.
+     */
+    @Test
+    public void testIdsContinueAfterDataset() {
+        List<Long> datasetIds = jdbcTemplate.queryForList("SELECT id FROM users", Long.class);
+
+        List<Long> ids = new ArrayList<>();
+        try {
+            for (int i = 0; i <= idAllocationSize; i++) {
+                ids.add(userRepository.save(InstanceGenerator.getUser()).getId());
+            }
+
+            assertThat(ids).doesNotContainAnyElementsOf(datasetIds);
+            assertThat(ids.getLast()).isGreaterThan(Collections.max(datasetIds));
+        } finally {
+            userRepository.deleteAllById(ids);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package hexlet.code.datasource;
+
+import hexlet.code.component.PoolHealthProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Status;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public final class ConnectionPoolHealthIndicatorTest {
+
+    private static final long SECOND = Duration.ofSeconds(1).toNanos();
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    private final AtomicInteger pending = new AtomicInteger();
+
+    private Timer acquire;
+
+    private ConnectionPoolHealthIndicator indicator;
+
+    @BeforeEach
+    public void setUp() {
+        acquire = Timer.builder("hikaricp.connections.acquire").tag("pool", "primary").register(registry);
+        Gauge.builder("hikaricp.connections.pending", pending, AtomicInteger::get)
+                .tag("pool", "primary")
+                .register(registry);
+        PoolHealthProperties properties = new PoolHealthProperties();
+        properties.setAcquireWaitThreshold(Duration.ofMillis(100));
+        properties.setWindow(Duration.ofSeconds(30));
+        indicator = new ConnectionPoolHealthIndicator(registry, properties);
+        indicator.sample(0);
+    }
+
+    @Test
+    public void testUpWhenAcquireIsFast() {
+        acquire.record(Duration.ofMillis(5));
+        acquire.record(Duration.ofMillis(15));
+
+        assertThat(indicator.health().getStatus()).isEqualTo(Status.UP);
+    }
+
+    @Test
+    public void testOutOfServiceWhenAcquireWaitExceedsThreshold() {
+        acquire.record(Duration.ofMillis(400));
+
+        assertThat(indicator.health().getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+    }
+
+    @Test
+    public void testPollingDoesNotConsumeTheWindow() {
+        acquire.record(Duration.ofMillis(400));
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(indicator.health().getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+        }
+    }
+
+    @Test
+    public void testRecoversOnceSlowWaitsLeaveTheWindow() {
+        acquire.record(Duration.ofMillis(400));
+        indicator.sample(10 * SECOND);
+        indicator.sample(20 * SECOND);
+        assertThat(indicator.health().getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+
+        indicator.sample(40 * SECOND);
+        acquire.record(Duration.ofMillis(5));
+
+        assertThat(indicator.health().getStatus()).isEqualTo(Status.UP);
+    }
+
+    @Test
+    public void testOutOfServiceWhenThreadsWaitAndNoneAcquires() {
+        acquire.record(Duration.ofMillis(5));
+        indicator.sample(10 * SECOND);
+        indicator.sample(40 * SECOND);
+
+        pending.set(3);
+
+        assertThat(indicator.health().getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+    }
+}
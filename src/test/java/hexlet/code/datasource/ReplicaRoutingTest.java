@@ -0,0 +1,113 @@
+package hexlet.code.datasource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import hexlet.code.concurrency.BulkheadDataSource;
+import hexlet.code.dto.label.LabelCreateDTO;
+import hexlet.code.repository.LabelRepository;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs against two H2 databases: the primary and a "replica" that is not replicated,
+ * so the data a request sees tells which database served it.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=" + ReplicaRoutingTest.PRIMARY_URL,
+    "datasource-routing.enabled=true",
+    "datasource-routing.sticky-window=1m",
+    "datasource-routing.replicas[0].url=" + ReplicaRoutingTest.REPLICA_URL,
+    "datasource-routing.replicas[0].username=sa"
+})
+@AutoConfigureMockMvc
+public final class ReplicaRoutingTest {
+
+    static final String PRIMARY_URL = "jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1";
+    static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1";
+
+    private static final String REPLICA_LABEL = "only-on-replica";
+
+    private static final JdbcTemplate REPLICA = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+    static {
+        Flyway.configure().dataSource(REPLICA_URL, "sa", "").load().migrate();
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private LabelRepository labelRepository;
+
+    @Autowired
+    private ObjectMapper om;
+
+    @BeforeEach
+    public void setUp() {
+        labelRepository.deleteAll();
+        REPLICA.update("DELETE FROM labels");
+        REPLICA.update("INSERT INTO labels (name) VALUES (?)", REPLICA_LABEL);
+    }
+
+    @Test
+    public void testReadOnlyTransactionsGoToReplica() throws Exception {
+        mockMvc.perform(get("/api/labels").with(jwt().jwt(builder -> builder.subject("reader@example.com"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].name", hasItem(REPLICA_LABEL)));
+    }
+
+    @Test
+    public void testReadYourWrites() throws Exception {
+        LabelCreateDTO dto = new LabelCreateDTO();
+        dto.setName("written-to-primary");
+
+        mockMvc.perform(post("/api/labels")
+                        .with(jwt().jwt(builder -> builder.subject("writer@example.com")))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsString(dto)))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/api/labels").with(jwt().jwt(builder -> builder.subject("writer@example.com"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].name", hasItem(dto.getName())))
+                .andExpect(jsonPath("$[*].name", not(hasItem(REPLICA_LABEL))));
+
+        mockMvc.perform(get("/api/labels").with(jwt().jwt(builder -> builder.subject("other@example.com"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].name", hasItem(REPLICA_LABEL)));
+    }
+
+    @Test
+    public void testDestroyClosesReplicaPools() throws Exception {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setJdbcUrl(REPLICA_URL);
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(
+                new DriverManagerDataSource(PRIMARY_URL, "sa", ""),
+                List.of(new BulkheadDataSource(pool, 1, Duration.ofSeconds(1))),
+                Duration.ZERO, Duration.ofSeconds(1));
+
+        routing.destroy();
+
+        assertThat(pool.isClosed()).isTrue();
+    }
+}
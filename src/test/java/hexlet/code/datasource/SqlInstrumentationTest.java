@@ -0,0 +1,105 @@
+package hexlet.code.datasource;
+
+import hexlet.code.component.SqlInstrumentationProperties;
+import hexlet.code.model.Label;
+import hexlet.code.repository.LabelRepository;
+import hexlet.code.util.InstanceGenerator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "sql-instrumentation.slow-threshold=0ms")
+@AutoConfigureMockMvc
+@ExtendWith(OutputCaptureExtension.class)
+public final class SqlInstrumentationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private LabelRepository labelRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Label testLabel;
+
+    @BeforeEach
+    public void setUp() {
+        labelRepository.deleteAll();
+        testLabel = labelRepository.save(InstanceGenerator.getLabel());
+    }
+
+    @Test
+    public void testStatementMetrics() throws Exception {
+        mockMvc.perform(get("/api/labels/{id}", testLabel.getId()).with(jwt()))
+                .andExpect(status().isOk());
+
+        Timer timer = meterRegistry.find("db.sql.statement")
+                .tag("operation", "select")
+                .tag("outcome", "success")
+                .timers().stream()
+                .filter(t -> t.getId().getTag("statement").contains("from labels"))
+                .findFirst()
+                .orElseThrow();
+        assertThat(timer.count()).isPositive();
+        assertThat(meterRegistry.find("db.sql.rows").tag("statement", timer.getId().getTag("statement"))
+                .summary()).isNotNull();
+    }
+
+    @Test
+    public void testSlowStatementLog(CapturedOutput output) throws Exception {
+        mockMvc.perform(get("/api/labels/{id}", testLabel.getId()).with(jwt()))
+                .andExpect(status().isOk());
+
+        assertThat(output.getOut())
+                .contains("Slow SQL")
+                .contains("caller=LabelService.getById")
+                .contains("parameters=[1=<Long>]")
+                .doesNotContain("parameters=[1=" + testLabel.getId() + "]");
+    }
+
+    @Test
+    public void testStatementShapes() {
+        assertThat(SqlShapes.shape("select * from tasks  where id in (?, ?, ?)\n and name = 'x' and t1_0.index > 10"))
+                .isEqualTo("select * from tasks where id in (?) and name = ? and t1_0.index > ?");
+        assertThat(SqlShapes.operation("insert into tasks (name) values (?)")).isEqualTo("insert");
+    }
+
+    @Test
+    public void testLongStatementTagsAreCapped() {
+        SqlInstrumentationProperties properties = new SqlInstrumentationProperties();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        SqlStatementMetrics metrics = new SqlStatementMetrics(registry, properties);
+        String columns = IntStream.range(0, 50).mapToObj(i -> "column_" + i).collect(Collectors.joining(", "));
+
+        metrics.record("select " + columns + " from wide where a = ?", Map.of(), 1_000, 1, false);
+        metrics.record("select " + columns + " from wide where b = ?", Map.of(), 1_000, 1, false);
+
+        List<String> tags = registry.find("db.sql.statement").timers().stream()
+                .map(timer -> timer.getId().getTag("statement"))
+                .toList();
+        assertThat(tags).hasSize(2).doesNotHaveDuplicates()
+                .allSatisfy(tag -> assertThat(tag).hasSize(properties.getStatementTagLength()));
+        assertThat(registry.get("db.sql.statement").timer().takeSnapshot().histogramCounts()).isEmpty();
+    }
+}
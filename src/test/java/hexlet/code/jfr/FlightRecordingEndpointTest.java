@@ -0,0 +1,132 @@
+package hexlet.code.jfr;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.component.FlightRecordingProperties;
+import hexlet.code.util.JWTUtils;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public final class FlightRecordingEndpointTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper om;
+
+    @Autowired
+    private FlightRecordingProperties properties;
+
+    @Autowired
+    private JWTUtils jwtUtils;
+
+    @Autowired
+    private JwtDecoder jwtDecoder;
+
+    private RequestPostProcessor operator() {
+        return jwt().authorities(new SimpleGrantedAuthority("SCOPE_" + properties.getScope()));
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        mockMvc.perform(delete("/actuator/jfr").with(operator()));
+    }
+
+    @Test
+    public void testRequiresAuthentication() throws Exception {
+        mockMvc.perform(get("/actuator/jfr"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    public void testRequiresOperatorScope() throws Exception {
+        mockMvc.perform(get("/actuator/jfr").with(jwt()))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/actuator/jfr").with(jwt())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    public void testOperatorTokensCarryScope() {
+        properties.getOperators().add("operator@example.com");
+        try {
+            assertThat(jwtDecoder.decode(jwtUtils.generateToken("operator@example.com")).getClaimAsString("scope"))
+                    .isEqualTo(properties.getScope());
+            assertThat(jwtDecoder.decode(jwtUtils.generateToken("hexlet@example.com")).hasClaim("scope"))
+                    .isFalse();
+        } finally {
+            properties.getOperators().remove("operator@example.com");
+        }
+    }
+
+    @Test
+    public void testRecordAndDownload() throws Exception {
+        MvcResult started = mockMvc.perform(post("/actuator/jfr").with(operator())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"duration\":\"30s\"}"))
+                .andExpect(status().isOk())
+                .andReturn();
+        String body = started.getResponse().getContentAsString();
+        assertThatJson(body).node("state").isEqualTo("RUNNING");
+        long id = om.readTree(body).get("id").asLong();
+
+        mockMvc.perform(get("/api/tasks?status=draft").with(jwt()))
+                .andExpect(status().isOk());
+
+        MvcResult stopped = mockMvc.perform(delete("/actuator/jfr").with(operator()))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertThatJson(stopped.getResponse().getContentAsString()).node("state").isEqualTo("STOPPED");
+
+        MvcResult download = mockMvc.perform(get("/actuator/jfr/{id}", id).with(operator()))
+                .andExpect(status().isOk())
+                .andReturn();
+        Path file = Files.createTempFile("recording", ".jfr");
+        try {
+            Files.write(file, download.getResponse().getContentAsByteArray());
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+
+            assertThat(events)
+                    .filteredOn(event -> event.getEventType().getName().equals("hexlet.TaskQuery"))
+                    .anySatisfy(event -> assertThat(event.getString("filter")).isEqualTo("status"));
+            assertThat(events)
+                    .filteredOn(event -> event.getEventType().getName().equals("hexlet.ServiceCall"))
+                    .anySatisfy(event -> assertThat(event.getString("service")).isEqualTo("TaskService"));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testDownloadUnknownRecording() throws Exception {
+        mockMvc.perform(get("/actuator/jfr/{id}", Long.MAX_VALUE).with(operator()))
+                .andExpect(status().isNotFound());
+    }
+}
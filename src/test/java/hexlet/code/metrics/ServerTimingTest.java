@@ -0,0 +1,79 @@
+package hexlet.code.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {"server-timing.enabled=true", "server-timing.sample-rate=1"})
+@AutoConfigureMockMvc
+public final class ServerTimingTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    public void testServerTimingHeader() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/task_statuses").with(jwt()))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        String header = result.getResponse().getHeader(ServerTimingFilter.SERVER_TIMING);
+        assertThat(header).isNotNull()
+                .contains("auth;dur=", "db;dur=", "mapping;dur=", "serialization;dur=", "total;dur=");
+        assertThat(result.getResponse().getContentLength())
+                .isEqualTo(result.getResponse().getContentAsByteArray().length);
+    }
+
+    @Test
+    public void testNoHeaderForUnauthenticatedCallers() throws Exception {
+        MvcResult rejected = mockMvc.perform(get("/api/task_statuses"))
+                .andExpect(status().isUnauthorized())
+                .andReturn();
+        MvcResult anonymous = mockMvc.perform(post("/api/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\": \"hexlet@example.com\", \"password\": \"qwerty\"}"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        assertThat(rejected.getResponse().getHeader(ServerTimingFilter.SERVER_TIMING)).isNull();
+        assertThat(anonymous.getResponse().getHeader(ServerTimingFilter.SERVER_TIMING)).isNull();
+    }
+
+    @Test
+    public void testNoHeaderOutsideApi() throws Exception {
+        MvcResult result = mockMvc.perform(get("/index.html"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        assertThat(result.getResponse().getHeader(ServerTimingFilter.SERVER_TIMING)).isNull();
+    }
+
+    @Test
+    public void testMethodTimers() throws Exception {
+        mockMvc.perform(get("/api/task_statuses").with(jwt()))
+                .andExpect(status().isOk());
+
+        assertThat(meterRegistry.get("app.controller")
+                .tags("class", "TaskStatusController", "method", "getAll", "exception", "none")
+                .timer()
+                .count()).isPositive();
+        assertThat(meterRegistry.get("app.service")
+                .tags("class", "TaskStatusService", "exception", "none")
+                .timers()).isNotEmpty();
+        assertThat(meterRegistry.find("hibernate.sessions.open").meter()).isNotNull();
+    }
+}
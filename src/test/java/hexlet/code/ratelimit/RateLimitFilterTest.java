@@ -0,0 +1,76 @@
+package hexlet.code.ratelimit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.JwtRequestPostProcessor;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+    "rate-limit.list.capacity=3",
+    "rate-limit.list.period=1h",
+    "rate-limit.auth-failure.capacity=3",
+    "rate-limit.auth-failure.period=1h"
+})
+@AutoConfigureMockMvc
+public final class RateLimitFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    public void testLimitPerUser() throws Exception {
+        JwtRequestPostProcessor token = jwt().jwt(builder -> builder.subject("limited@example.com"));
+
+        for (int remaining = 2; remaining >= 0; remaining--) {
+            mockMvc.perform(get("/api/task_statuses").with(token))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("RateLimit-Limit", "3"))
+                    .andExpect(header().string("RateLimit-Remaining", String.valueOf(remaining)));
+        }
+
+        mockMvc.perform(get("/api/task_statuses").with(token))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists("Retry-After"));
+
+        JwtRequestPostProcessor anotherToken = jwt().jwt(builder -> builder.subject("another@example.com"));
+        mockMvc.perform(get("/api/task_statuses").with(anotherToken))
+                .andExpect(status().isOk());
+
+        double rejected = meterRegistry.get("http.ratelimit.requests")
+                .tag("route", RateLimiter.LIST)
+                .tag("outcome", "rejected")
+                .counter()
+                .count();
+        assertThat(rejected).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    public void testLimitFailedAuthenticationPerIp() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/api/task_statuses").with(httpBasic("hexlet@example.com", "wrong-password")))
+                    .andExpect(status().isUnauthorized());
+        }
+
+        mockMvc.perform(get("/api/task_statuses").with(httpBasic("hexlet@example.com", "wrong-password")))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists("Retry-After"));
+        mockMvc.perform(get("/api/task_statuses").header("X-API-Key", "guessed-key"))
+                .andExpect(status().isTooManyRequests());
+
+        mockMvc.perform(get("/api/task_statuses").with(jwt()))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,136 @@
+package hexlet.code.repository;
+
+import hexlet.code.datasource.SqlStatementMetrics;
+import hexlet.code.dto.task.TaskParamsDTO;
+import hexlet.code.model.Label;
+import hexlet.code.specification.TaskSpecification;
+import hexlet.code.util.InstanceGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Checks on H2 that the hot queries are answered from the indexes created by the migrations.
+ * The statements are the ones Hibernate generates for {@link TaskSpecification} and the derived finders,
+ * captured from the instrumented data source with their bind parameters and then explained.
+ * H2 adds its own index to every foreign key the migrations do not index first, and picks either index
+ * for a lookup on that column, so those checks assert an index lookup on the column rather than an index name.
+ */
+@SpringBootTest
+public final class QueryPlanTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private LabelRepository labelRepository;
+
+    @Autowired
+    private TaskSpecification specBuilder;
+
+    @MockitoSpyBean
+    private SqlStatementMetrics statementMetrics;
+
+    private Label label;
+
+    @BeforeEach
+    public void setUp() {
+        label = labelRepository.save(InstanceGenerator.getLabel());
+        clearInvocations(statementMetrics);
+    }
+
+    /**
+     * Explains the first captured statement that reads the given table.
+     *
+     * @param table the table the statement reads
+     * @return the plan of the statement
+     */
+    @SuppressWarnings("unchecked")
+    private String explainGenerated(String table) {
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Map<Integer, Object>> parameters = ArgumentCaptor.forClass(Map.class);
+        verify(statementMetrics, atLeastOnce())
+                .record(sql.capture(), parameters.capture(), anyLong(), anyLong(), anyBoolean());
+
+        List<String> statements = sql.getAllValues();
+        for (int i = 0; i < statements.size(); i++) {
+            String statement = statements.get(i).toLowerCase(Locale.ROOT);
+            if (statement.startsWith("select") && statement.contains(" from " + table + " ")) {
+                Object[] values = parameters.getAllValues().get(i).values().toArray();
+                clearInvocations(statementMetrics);
+                return jdbcTemplate.queryForObject("EXPLAIN " + statements.get(i), String.class, values);
+            }
+        }
+        throw new AssertionError("No statement reading " + table + " was captured: " + statements);
+    }
+
+    private static void assertIndexLookup(String plan, String column) {
+        assertThat(plan).containsPattern("/\\* PUBLIC\\.\\w+: [^*]*\\b" + column + " = ");
+    }
+
+    private void findTasks(TaskParamsDTO params) {
+        taskRepository.findAll(specBuilder.build(params));
+    }
+
+    @Test
+    public void testFindByEmailUsesIndex() {
+        userRepository.findByEmail("hexlet@example.com");
+
+        assertThat(explainGenerated("users")).containsIgnoringCase("idx_users_email");
+    }
+
+    @Test
+    public void testAssigneeFilterUsesIndex() {
+        TaskParamsDTO params = new TaskParamsDTO();
+        params.setAssigneeId(1L);
+        findTasks(params);
+
+        assertIndexLookup(explainGenerated("tasks"), "ASSIGNEE_ID");
+    }
+
+    @Test
+    public void testStatusFilterUsesIndex() {
+        TaskParamsDTO params = new TaskParamsDTO();
+        params.setStatus("draft");
+        findTasks(params);
+
+        assertIndexLookup(explainGenerated("tasks"), "TASK_STATUS_ID");
+    }
+
+    @Test
+    public void testLabelFilterUsesIndex() {
+        TaskParamsDTO params = new TaskParamsDTO();
+        params.setLabelId(label.getId());
+        findTasks(params);
+
+        assertThat(explainGenerated("tasks")).containsIgnoringCase("idx_tasks_labels_label");
+    }
+
+    @Test
+    public void testLabelInUseCheckUsesIndex() {
+        taskRepository.existsByLabelsId(label.getId());
+
+        assertIndexLookup(explainGenerated("tasks_labels"), "LABELS_ID");
+    }
+}
@@ -0,0 +1,99 @@
+package hexlet.code.util;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Measures the bytes allocated by the current thread while running an action, such as a MockMvc call,
+ * which runs the whole request on the calling thread. Every action is warmed up first, so the JIT has
+ * compiled the hot paths and escape analysis applies as it would in production.
+ */
+public final class AllocationMeter {
+
+    /**
+     * Where {@link #write} puts the reports.
+     */
+    public static final Path DIRECTORY = Path.of("build", "reports", "allocation");
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private AllocationMeter() {
+    }
+
+    /**
+     * An action to measure.
+     */
+    @FunctionalInterface
+    public interface Action {
+        void run() throws Exception;
+    }
+
+    /**
+     * Bytes allocated per run of one action.
+     *
+     * @param name what was measured
+     * @param min the fewest bytes allocated by a run
+     * @param median the median bytes allocated by a run
+     * @param max the most bytes allocated by a run
+     */
+    public record Result(String name, long min, long median, long max) {
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%-40s min=%,d median=%,d max=%,d bytes", name, min, median, max);
+        }
+    }
+
+    /**
+     * Returns whether the JVM counts allocated bytes per thread.
+     *
+     * @return {@code true} if allocations can be measured
+     */
+    public static boolean isSupported() {
+        return THREADS.isThreadAllocatedMemorySupported() && THREADS.isThreadAllocatedMemoryEnabled();
+    }
+
+    /**
+     * Runs the action {@code warmUps} times unmeasured, then {@code runs} times measured.
+     *
+     * @param name what is measured
+     * @param warmUps unmeasured runs
+     * @param runs measured runs
+     * @param action the action
+     * @return the bytes allocated per measured run
+     * @throws Exception whatever the action throws
+     */
+    public static Result measure(String name, int warmUps, int runs, Action action) throws Exception {
+        for (int i = 0; i < warmUps; i++) {
+            action.run();
+        }
+        long[] samples = new long[runs];
+        for (int i = 0; i < runs; i++) {
+            long before = THREADS.getCurrentThreadAllocatedBytes();
+            action.run();
+            samples[i] = THREADS.getCurrentThreadAllocatedBytes() - before;
+        }
+        Arrays.sort(samples);
+        return new Result(name, samples[0], samples[runs / 2], samples[runs - 1]);
+    }
+
+    /**
+     * Writes the results to {@code build/reports/allocation/<report>.txt}.
+     *
+     * @param report the report name
+     * @param results the results
+     * @return the written file
+     * @throws IOException if the file cannot be written
+     */
+    public static Path write(String report, List<Result> results) throws IOException {
+        Files.createDirectories(DIRECTORY);
+        String lines = results.stream().map(Result::toString).collect(Collectors.joining(System.lineSeparator()));
+        return Files.writeString(DIRECTORY.resolve(report + ".txt"), lines + System.lineSeparator());
+    }
+}
@@ -0,0 +1,76 @@
+package hexlet.code.warmup;
+
+import hexlet.code.component.WarmUpProperties;
+import hexlet.code.model.Task;
+import hexlet.code.ratelimit.RateLimiter;
+import hexlet.code.repository.TaskRepository;
+import hexlet.code.repository.TaskStatusRepository;
+import hexlet.code.util.InstanceGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+            "warm-up.enabled=true",
+            "warm-up.iterations=20",
+            "rate-limit.list.capacity=50"
+        })
+@ExtendWith(OutputCaptureExtension.class)
+public final class WarmUpRunnerTest {
+
+    @Autowired
+    private WarmUpRunner warmUpRunner;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskStatusRepository statusRepository;
+
+    @Autowired
+    private RateLimiter rateLimiter;
+
+    @Autowired
+    private WarmUpProperties properties;
+
+    @Test
+    public void testWarmUp(CapturedOutput output) throws Exception {
+        Task task = InstanceGenerator.getTask();
+        task.setTaskStatus(statusRepository.findBySlug("draft").orElseThrow());
+        taskRepository.save(task);
+        long tasks = taskRepository.count();
+
+        warmUpRunner.run(new DefaultApplicationArguments());
+
+        assertThat(output).contains("Warm-up finished", "of 20 rounds, failures={}", "Warm-up LIST", "Warm-up CREATE");
+        assertThat(taskRepository.count()).isEqualTo(tasks);
+        assertThat(taskRepository.findByName("warm-up")).isEmpty();
+        for (int i = 0; i < 50; i++) {
+            assertThat(rateLimiter.acquire(RateLimiter.LIST, "user:hexlet@example.com").allowed()).isTrue();
+        }
+    }
+
+    @Test
+    public void testTimeoutBeforeFirstRound(CapturedOutput output) throws Exception {
+        Duration timeout = properties.getTimeout();
+        int before = output.getOut().length();
+        properties.setTimeout(Duration.ZERO);
+        try {
+            warmUpRunner.run(new DefaultApplicationArguments());
+        } finally {
+            properties.setTimeout(timeout);
+        }
+
+        assertThat(output.getOut().substring(before)).contains("0 of 20 rounds").doesNotContain("Warm-up LIST");
+    }
+}